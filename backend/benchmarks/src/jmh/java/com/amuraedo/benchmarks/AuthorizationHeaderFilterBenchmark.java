@@ -0,0 +1,92 @@
+package com.amuraedo.benchmarks;
+
+import com.amuraedo.gatewayservice.cache.ClaimsCache;
+import com.amuraedo.gatewayservice.filter.AuthorizationHeaderFilter;
+import com.amuraedo.gatewayservice.metrics.LatencyMetrics;
+import com.amuraedo.gatewayservice.util.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuthorizationHeaderFilter 전체 경로 (헤더 확인 → 클레임 캐시/검증 → 블랙리스트 → 헤더 재작성).
+ * 다운스트림은 아무것도 하지 않는 GatewayFilterChain 이고, Redis 는 InMemoryGatewayRedisUtil 로 대신한다.
+ * 요청마다 exchange 를 새로 만들므로 헤더 재작성에 드는 할당까지 포함된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AuthorizationHeaderFilterBenchmark {
+
+    private static final String PATH = "/api/v1/stats-service/stats/user-stats";
+
+    private GatewayFilter filter;
+    private GatewayFilterChain chain;
+    private String validToken;
+    private String blackListedToken;
+    private String forgedToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        JwtUtil jwtUtil = new JwtUtil(Fixtures.SECRET, 3_600_000L);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ClaimsCache claimsCache = new ClaimsCache(jwtUtil, meterRegistry, 100_000, 100_000, Duration.ofMinutes(10));
+        InMemoryGatewayRedisUtil redisUtil = new InMemoryGatewayRedisUtil();
+
+        AuthorizationHeaderFilter factory = new AuthorizationHeaderFilter(claimsCache, redisUtil, new LatencyMetrics(meterRegistry));
+        Field secret = AuthorizationHeaderFilter.class.getDeclaredField("internalSecretKey");
+        secret.setAccessible(true);
+        secret.set(factory, "benchmark-internal-secret");
+        filter = factory.apply(new AuthorizationHeaderFilter.Config());
+
+        // 다운스트림 대신 재작성된 헤더만 읽고 끝낸다
+        chain = exchange -> {
+            exchange.getRequest().getHeaders().getFirst("X-User-Id");
+            return Mono.empty();
+        };
+
+        validToken = Fixtures.token();
+        blackListedToken = Fixtures.token();
+        redisUtil.addBlackList(jwtUtil.verifyClaims(blackListedToken).tokenId());
+        forgedToken = validToken.substring(0, validToken.length() - 4) + "AAAA";
+    }
+
+    @Benchmark
+    public HttpStatusCode validToken() {
+        return run(validToken);
+    }
+
+    @Benchmark
+    public HttpStatusCode blackListedToken() {
+        return run(blackListedToken);
+    }
+
+    @Benchmark
+    public HttpStatusCode forgedToken() {
+        return run(forgedToken);
+    }
+
+    private HttpStatusCode run(String token) {
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(PATH)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+        filter.filter(exchange, chain).block();
+        return exchange.getResponse().getStatusCode();
+    }
+}
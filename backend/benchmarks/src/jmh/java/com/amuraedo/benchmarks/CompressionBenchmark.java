@@ -0,0 +1,56 @@
+package com.amuraedo.benchmarks;
+
+import com.amuraedo.gatewayservice.util.ResponseCompression;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// 랭킹 목록 크기의 JSON 을 요청마다 gzip 하는 비용과, 미리 압축해 둔 본문을 재사용하는 비용 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CompressionBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int entries;
+
+    private byte[] body;
+    private byte[] precompressed;
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("{\"success\":true,\"data\":[");
+        for (int i = 0; i < entries; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"rank\":").append(i + 1)
+                    .append(",\"userId\":").append(1000 + i)
+                    .append(",\"totalWorkoutTime\":").append(36000 - i * 7)
+                    .append(",\"totalCalories\":").append(5200 - i * 3)
+                    .append('}');
+        }
+        json.append("]}");
+        body = json.toString().getBytes(StandardCharsets.UTF_8);
+        precompressed = ResponseCompression.gzip(body);
+    }
+
+    @Benchmark
+    public byte[] gzipPerRequest() {
+        return ResponseCompression.gzip(body);
+    }
+
+    // RequestCoalescingFilter 가 공유 응답을 한 번 압축해 두고 돌려주는 경로
+    @Benchmark
+    public byte[] reusePrecompressed() {
+        return precompressed;
+    }
+}
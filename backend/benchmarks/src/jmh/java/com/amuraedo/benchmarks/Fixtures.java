@@ -0,0 +1,29 @@
+package com.amuraedo.benchmarks;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+
+final class Fixtures {
+
+    static final String SECRET = "benchmark-secret-key-for-gateway-jwt-0123456789abcdef";
+
+    private Fixtures() {
+    }
+
+    // member-service 가 발급하는 것과 같은 형태 (jti, sub, role, iat, exp)
+    static String token() {
+        Date now = new Date();
+        return Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject("42")
+                .claim("role", "USER")
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + 3_600_000L))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
@@ -0,0 +1,27 @@
+package com.amuraedo.benchmarks;
+
+import com.amuraedo.gatewayservice.util.GatewayRedisUtil;
+import com.amuraedo.gatewayservice.util.RedisKeyUtil;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Redis 대신 메모리 Set 으로 블랙리스트를 확인하는 대역 (네트워크 왕복을 빼고 필터 자체의 비용만 잰다)
+class InMemoryGatewayRedisUtil extends GatewayRedisUtil {
+
+    private final Set<String> blackList = ConcurrentHashMap.newKeySet();
+
+    InMemoryGatewayRedisUtil() {
+        super(null, null, false);
+    }
+
+    void addBlackList(String tokenId) {
+        blackList.add(RedisKeyUtil.getBalckListKey(tokenId));
+    }
+
+    @Override
+    public Mono<Boolean> hasBlackList(String token, String tokenId) {
+        return Mono.just(blackList.contains(RedisKeyUtil.getBalckListKey(tokenId)));
+    }
+}
@@ -0,0 +1,57 @@
+package com.amuraedo.benchmarks;
+
+import com.amuraedo.gatewayservice.util.JwtUtil;
+import com.amuraedo.gatewayservice.util.TokenClaims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게이트웨이 JwtUtil 의 토큰 검증 비용.
+ * verifyClaims 는 전용 HMAC 검증기 경로, verifyClaimsWithJjwt 는 기존 jjwt 파서 경로이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(Fixtures.SECRET, 3_600_000L);
+        token = Fixtures.token();
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public String getUserId() {
+        return jwtUtil.getUserId(token);
+    }
+
+    @Benchmark
+    public String getRole() {
+        return jwtUtil.getRole(token);
+    }
+
+    @Benchmark
+    public TokenClaims verifyClaims() {
+        return jwtUtil.verifyClaims(token);
+    }
+
+    @Benchmark
+    public TokenClaims verifyClaimsWithJjwt() {
+        return jwtUtil.verifyClaimsWithJjwt(token);
+    }
+}
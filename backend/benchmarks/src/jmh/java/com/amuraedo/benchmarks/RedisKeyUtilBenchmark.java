@@ -0,0 +1,52 @@
+package com.amuraedo.benchmarks;
+
+import com.amuraedo.gatewayservice.util.RedisKeyUtil;
+import com.amuraedo.gatewayservice.util.TokenDigest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+// 요청마다 만들어지는 Redis 키 생성 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RedisKeyUtilBenchmark {
+
+    private Long userId;
+    private String tokenId;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        userId = 42L;
+        tokenId = "dGhpcy1pcy1hLXRva2VuLWlk";
+        token = Fixtures.token();
+    }
+
+    @Benchmark
+    public String refreshTokenKey() {
+        return RedisKeyUtil.getRefreshTokenKey(userId);
+    }
+
+    @Benchmark
+    public String blackListKeyByTokenId() {
+        return RedisKeyUtil.getBalckListKey(tokenId);
+    }
+
+    // jti 가 없는 이전 토큰은 다이제스트를 계산해 키를 만든다
+    @Benchmark
+    public String blackListKeyByDigest() {
+        return RedisKeyUtil.getBalckListKey(TokenDigest.of(token));
+    }
+
+    @Benchmark
+    public String rateLimitKey() {
+        return RedisKeyUtil.getRateLimitKey("stats-service:user:" + userId);
+    }
+}
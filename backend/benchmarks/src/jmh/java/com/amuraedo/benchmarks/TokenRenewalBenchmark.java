@@ -0,0 +1,66 @@
+package com.amuraedo.benchmarks;
+
+import com.team3.memberservice.common.CalibratedBCryptPasswordEncoder;
+import com.team3.memberservice.util.JwtUtil;
+import com.team3.memberservice.util.TokenDigest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// member-service 세션 갱신 비용: 다시 로그인(BCrypt 검증 + 서명) vs 리프레시 토큰 회전(다이제스트 비교 + 서명)
+// Redis 왕복은 빼고 CPU 비용만 잰다 (회전의 비교/교체는 rotate_refresh_token.lua 가 Redis 에서 하는 일)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TokenRenewalBenchmark {
+
+    private static final String PASSWORD = "benchmark-password";
+
+    @Param({"10", "12"})
+    private int bcryptCost;
+
+    private JwtUtil jwtUtil;
+    private CalibratedBCryptPasswordEncoder passwordEncoder;
+    private String storedHash;
+    private String refreshToken;
+    private String storedDigest;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(Fixtures.SECRET, 3_600_000L);
+        passwordEncoder = new CalibratedBCryptPasswordEncoder(bcryptCost);
+        storedHash = passwordEncoder.encode(PASSWORD);
+        refreshToken = newToken();
+        storedDigest = TokenDigest.of(refreshToken);
+    }
+
+    @Benchmark
+    public String login() {
+        if (!passwordEncoder.matches(PASSWORD, storedHash)) {
+            throw new IllegalStateException();
+        }
+        return jwtUtil.createToken(42L, "USER");
+    }
+
+    @Benchmark
+    public String renew() {
+        if (!TokenDigest.of(refreshToken).equals(storedDigest)) {
+            throw new IllegalStateException();
+        }
+        refreshToken = newToken();
+        storedDigest = TokenDigest.of(refreshToken);
+        return jwtUtil.createToken(42L, "USER");
+    }
+
+    private static String newToken() {
+        return "42." + UUID.randomUUID() + "." + UUID.randomUUID();
+    }
+}
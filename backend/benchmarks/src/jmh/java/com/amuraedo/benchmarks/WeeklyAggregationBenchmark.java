@@ -0,0 +1,136 @@
+package com.amuraedo.benchmarks;
+
+import com.team3.workoutplanservice.domain.WorkoutPlan;
+import com.team3.workoutplanservice.dto.response.WeeklyTotalsDTO;
+import com.team3.workoutplanservice.repository.WorkoutPlanRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// workoutplan-service 주간 합계: 엔티티를 모두 읽어 자바에서 더하기(loadAndSum) vs DB 에서 SUM(aggregateInDatabase)
+// 한 사용자의 조회 기간에 계획 10,000건, 다른 사용자 계획 10,000건 (H2 메모리 DB, MySQL 과 실행 계획은 다를 수 있음)
+// 요청 1건당 힙 할당은 gc.alloc.rate.norm 으로 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WeeklyAggregationBenchmark {
+
+    private static final Long USER_ID = 42L;
+    private static final int PLANS_PER_USER = 10_000;
+    private static final LocalDate START = LocalDate.of(2025, 1, 6);
+    private static final LocalDate END = START.plusDays(6);
+
+    private ConfigurableApplicationContext context;
+    private WorkoutPlanRepository repository;
+    private TransactionTemplate readOnly;
+
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({
+            DataSourceAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class,
+            JpaRepositoriesAutoConfiguration.class
+    })
+    @EntityScan(basePackageClasses = WorkoutPlan.class)
+    @EnableJpaRepositories(basePackageClasses = WorkoutPlanRepository.class)
+    static class JpaOnly {
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(JpaOnly.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:workout;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "spring.jpa.open-in-view=false",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=500",
+                        "logging.level.root=WARN"
+                )
+                .run();
+        repository = context.getBean(WorkoutPlanRepository.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        List<WorkoutPlan> plans = new ArrayList<>(PLANS_PER_USER * 2);
+        for (int i = 0; i < PLANS_PER_USER; i++) {
+            plans.add(plan(USER_ID, START.plusDays(i % 7), i));
+            plans.add(plan(1_000L + i % 100, START.plusDays(i % 7), i));
+        }
+        repository.saveAll(plans);
+
+        // 두 방식의 결과가 같은지 먼저 확인
+        WeeklyTotalsDTO inJava = loadAndSum();
+        WeeklyTotalsDTO inDatabase = aggregateInDatabase();
+        if (!inJava.equals(inDatabase)) {
+            throw new IllegalStateException(inJava + " != " + inDatabase);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // 변경 전 WorkoutPlanService 의 방식
+    @Benchmark
+    public WeeklyTotalsDTO loadAndSum() {
+        return readOnly.execute(status -> {
+            long planned = 0;
+            long achieved = 0;
+            long duration = 0;
+            for (WorkoutPlan plan : repository.findAllByDateBetweenAndUserId(START, END, USER_ID)) {
+                planned += plan.getBurnedCalories();
+                if (plan.isCompleted()) {
+                    achieved += plan.getBurnedCalories();
+                    duration += plan.getWorkoutRecord();
+                }
+            }
+            return new WeeklyTotalsDTO(planned, achieved, duration);
+        });
+    }
+
+    @Benchmark
+    public WeeklyTotalsDTO aggregateInDatabase() {
+        return readOnly.execute(status -> repository.sumTotalsByUserIdAndDateBetween(USER_ID, START, END));
+    }
+
+    private static WorkoutPlan plan(Long userId, LocalDate date, int i) {
+        return WorkoutPlan.builder()
+                .userId(userId)
+                .dayOfWeek(date.getDayOfWeek().name())
+                .exerciseType("RUNNING")
+                .category("CARDIO")
+                .difficulty("MEDIUM")
+                .bodyPart("LEGS")
+                .date(date)
+                .workoutRecord(30 + i % 60)
+                .isCompleted(i % 3 != 0)
+                .burnedCalories(200 + i % 300)
+                .build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.team3.feedservice.common;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 남은 시간이 없어 다른 서비스 호출이나 트랜잭션을 시작하지 않고 포기한 경우
+@ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException() {
+        super("요청 마감 시각이 지났습니다.");
+    }
+}
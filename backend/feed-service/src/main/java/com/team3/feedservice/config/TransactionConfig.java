@@ -0,0 +1,17 @@
+package com.team3.feedservice.config;
+
+import com.team3.feedservice.common.DeadlineAwareTransactionManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+public class TransactionConfig {
+
+    // 기본 JpaTransactionManager 대신 요청 마감 시각을 반영하는 트랜잭션 매니저를 쓴다
+    @Bean
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new DeadlineAwareTransactionManager(entityManagerFactory);
+    }
+}
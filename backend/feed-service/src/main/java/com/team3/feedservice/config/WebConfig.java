@@ -1,6 +1,7 @@
 package com.team3.feedservice.config;
 
 import com.team3.feedservice.interceptor.InternalSecretInterceptor;
+import com.team3.feedservice.interceptor.RequestDeadlineInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -11,9 +12,13 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebConfig implements WebMvcConfigurer {
 
     private final InternalSecretInterceptor internalSecretInterceptor;
+    private final RequestDeadlineInterceptor requestDeadlineInterceptor;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        // 게이트웨이가 넣어준 요청 마감 시각 (모든 요청)
+        registry.addInterceptor(requestDeadlineInterceptor);
+
         registry.addInterceptor(internalSecretInterceptor)
                 .addPathPatterns("/feed/**"); // 모든 API 검사
         // 보통은 /api/auth/** 도 게이트웨이를 통한다면 검사하는 게 맞습니다.
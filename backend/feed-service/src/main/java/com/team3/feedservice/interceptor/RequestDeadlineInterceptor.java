@@ -0,0 +1,46 @@
+package com.team3.feedservice.interceptor;
+
+import com.team3.feedservice.common.RequestDeadline;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 게이트웨이가 넣어준 X-Request-Deadline 을 RequestDeadline 에 담아 요청이 끝날 때까지 유지한다.
+ * 마감이 이미 지난 요청은 컨트롤러까지 가지 않고 504 로 끝낸다 (클라이언트는 이미 응답을 포기했다).
+ */
+@Component
+@Slf4j
+public class RequestDeadlineInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        RequestDeadline.clear();
+        String header = request.getHeader(RequestDeadline.HEADER);
+        if (header == null) {
+            return true;
+        }
+
+        long deadline;
+        try {
+            deadline = Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            log.debug("Ignoring malformed deadline header: {}", header);
+            return true;
+        }
+
+        if (deadline <= System.currentTimeMillis()) {
+            response.sendError(HttpServletResponse.SC_GATEWAY_TIMEOUT, "Request deadline exceeded");
+            return false;
+        }
+        RequestDeadline.set(deadline);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestDeadline.clear();
+    }
+}
@@ -0,0 +1,205 @@
+package com.amuraedo.gatewayservice.cache;
+
+import com.amuraedo.gatewayservice.util.RedisKeyUtil;
+import io.lettuce.core.event.connection.ConnectionActivatedEvent;
+import io.lettuce.core.event.connection.ConnectionDeactivatedEvent;
+import io.lettuce.core.resource.ClientResources;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * 로그아웃 블랙리스트(BL:*)의 로컬 니어 캐시.
+ * 블룸 필터에 없는 키는 Redis 를 조회하지 않고 바로 "블랙리스트 아님"으로 판단하고,
+ * 있을 수도 있는 키만 Redis EXISTS 로 확인한다.
+ *
+ * - member-service 가 로그아웃 시 발행하는 키를 pub/sub 으로 받아 필터에 추가
+ * - 구독 직후, Redis 재연결 시, 그리고 주기적으로 BL:* 키를 SCAN 해 필터를 새로 만든다
+ *   (블룸 필터는 삭제가 안 되므로 만료된 키는 재구성 때 빠진다)
+ * - 필터가 준비되지 않았거나 연결이 끊긴 동안에는 모든 요청을 Redis 로 보낸다
+ */
+@Slf4j
+@Component
+public class BlacklistNearCache {
+
+    private static final int SCAN_COUNT = 1000;
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final ReactiveRedisMessageListenerContainer listenerContainer;
+    private final ClientResources clientResources;
+    private final long expectedInsertions;
+    private final double fpp;
+
+    // null 이면 아직 신뢰할 수 없는 상태 → Redis 로 폴백
+    private final AtomicReference<BloomFilter> filter = new AtomicReference<>();
+    private final AtomicBoolean rebuildInProgress = new AtomicBoolean();
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+    // 연결이 끊길 때마다 증가 → 끊김을 사이에 둔 재구성 결과는 버린다
+    private final AtomicLong generation = new AtomicLong();
+    private volatile BloomFilter rebuilding;
+    private volatile boolean subscribed;
+    private final Disposable.Composite subscriptions = Disposables.composite();
+
+    private final Counter skipped;
+    private final Counter probableHits;
+    private final Counter fallbacks;
+
+    public BlacklistNearCache(
+            ReactiveStringRedisTemplate redisTemplate,
+            ReactiveRedisMessageListenerContainer listenerContainer,
+            ClientResources clientResources,
+            MeterRegistry meterRegistry,
+            @Value("${gateway.blacklist.expected-insertions:100000}") long expectedInsertions,
+            @Value("${gateway.blacklist.fpp:0.01}") double fpp
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.clientResources = clientResources;
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+        this.skipped = meterRegistry.counter("gateway.blacklist.near-cache", "result", "skip");
+        this.probableHits = meterRegistry.counter("gateway.blacklist.near-cache", "result", "probable-hit");
+        this.fallbacks = meterRegistry.counter("gateway.blacklist.near-cache", "result", "fallback");
+    }
+
+    // false 면 Redis 조회 없이 블랙리스트가 아니라고 판단해도 된다
+    public boolean mightContain(String blackListKey) {
+        BloomFilter current = filter.get();
+        if (current == null) {
+            fallbacks.increment();
+            return true;
+        }
+        if (current.mightContain(blackListKey)) {
+            probableHits.increment();
+            return true;
+        }
+        skipped.increment();
+        return false;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        subscriptions.add(subscribeBlackListEvents());
+        subscriptions.add(watchConnection());
+    }
+
+    @PreDestroy
+    public void stop() {
+        subscriptions.dispose();
+    }
+
+    @Scheduled(
+            initialDelayString = "${gateway.blacklist.rebuild-interval:600000}",
+            fixedDelayString = "${gateway.blacklist.rebuild-interval:600000}"
+    )
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    private Disposable subscribeBlackListEvents() {
+        return listenerContainer.receiveLater(ChannelTopic.of(RedisKeyUtil.getBlackListChannel()))
+                // 구독이 성립한 뒤에 SCAN 해야 그 사이에 발행된 키를 놓치지 않는다
+                .doOnNext(messages -> {
+                    subscribed = true;
+                    rebuild();
+                })
+                .flatMapMany(Function.identity())
+                .doOnNext(message -> add(message.getMessage()))
+                .doOnError(e -> {
+                    subscribed = false;
+                    filter.set(null);
+                    log.warn("Blacklist subscription failed, falling back to Redis: {}", e.getMessage());
+                })
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe();
+    }
+
+    // 연결이 끊기면 그 사이의 이벤트를 놓칠 수 있으므로 폴백하고, 다시 연결되면 재구성한다
+    private Disposable watchConnection() {
+        return clientResources.eventBus().get()
+                .subscribe(event -> {
+                    if (event instanceof ConnectionDeactivatedEvent) {
+                        generation.incrementAndGet();
+                        filter.set(null);
+                    } else if (event instanceof ConnectionActivatedEvent) {
+                        rebuild();
+                    }
+                });
+    }
+
+    private void add(String blackListKey) {
+        // 재구성 중인 필터를 먼저 채워야 교체 시점에 키가 빠지지 않는다
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(blackListKey);
+        }
+        BloomFilter current = filter.get();
+        if (current != null) {
+            current.put(blackListKey);
+        }
+    }
+
+    private void rebuild() {
+        // 구독 전에 만든 필터는 그 사이의 로그아웃을 놓칠 수 있다
+        if (!subscribed) {
+            return;
+        }
+        if (!rebuildInProgress.compareAndSet(false, true)) {
+            rebuildRequested.set(true);
+            return;
+        }
+
+        long startedGeneration = generation.get();
+        BloomFilter next = new BloomFilter(expectedInsertions, fpp);
+        rebuilding = next;
+
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(RedisKeyUtil.getBlackListPattern())
+                .count(SCAN_COUNT)
+                .build();
+
+        redisTemplate.scan(options)
+                .doOnNext(next::put)
+                .count()
+                .doFinally(signal -> {
+                    rebuilding = null;
+                    rebuildInProgress.set(false);
+                    if (rebuildRequested.getAndSet(false)) {
+                        rebuild();
+                    }
+                })
+                .subscribe(
+                        count -> {
+                            if (generation.get() != startedGeneration) {
+                                rebuildRequested.set(true);
+                                return;
+                            }
+                            filter.set(next);
+                            if (count > expectedInsertions) {
+                                log.warn("Blacklist has {} keys, more than expected {}; false positive rate will rise", count, expectedInsertions);
+                            }
+                            log.info("Blacklist near-cache rebuilt with {} keys", count);
+                        },
+                        e -> log.warn("Blacklist near-cache rebuild failed: {}", e.getMessage())
+                );
+    }
+}
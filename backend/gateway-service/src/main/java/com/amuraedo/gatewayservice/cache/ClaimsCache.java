@@ -0,0 +1,106 @@
+package com.amuraedo.gatewayservice.cache;
+
+import com.amuraedo.gatewayservice.util.JwtUtil;
+import com.amuraedo.gatewayservice.util.TokenClaims;
+import com.amuraedo.gatewayservice.util.TokenDigest;
+import com.amuraedo.gatewayservice.util.TokenRejections;
+import com.amuraedo.gatewayservice.util.TokenRejections.Reason;
+import com.amuraedo.gatewayservice.util.TokenShape;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증이 끝난 토큰의 클레임을 토큰 만료 시각까지 보관하는 캐시.
+ * 같은 토큰으로 들어오는 요청은 서명 검증/파싱 없이 바로 통과한다.
+ * 키는 토큰 원문이 아닌 SHA-256 다이제스트이며, 지표는 cache.gets / cache.evictions (cache=jwt-claims)로 노출된다.
+ * 검증에 실패한 토큰은 negative-ttl 동안 따로 기억해 같은 토큰이 다시 오면 바로 거절한다
+ * (거절 건수는 gateway.jwt.rejected{reason}, gateway.jwt.negative-cache.hits).
+ */
+@Component
+public class ClaimsCache {
+
+    private final JwtUtil jwtUtil;
+    private final Cache<String, TokenClaims> cache;
+    // 최근 거절된 토큰 다이제스트 (같은 위조/만료 토큰이 반복되면 서명 검증 없이 거절)
+    private final Cache<String, Boolean> rejected;
+    private final Counter negativeHits;
+
+    public ClaimsCache(
+            JwtUtil jwtUtil,
+            MeterRegistry meterRegistry,
+            @Value("${gateway.claims-cache.max-size:100000}") long maxSize,
+            @Value("${gateway.claims-cache.negative-max-size:100000}") long negativeMaxSize,
+            @Value("${gateway.claims-cache.negative-ttl:10m}") Duration negativeTtl
+    ) {
+        this.jwtUtil = jwtUtil;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        this.rejected = Caffeine.newBuilder()
+                .maximumSize(negativeMaxSize)
+                .expireAfterWrite(negativeTtl)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt-claims");
+
+        this.negativeHits = meterRegistry.counter("gateway.jwt.negative-cache.hits");
+        TokenRejections rejections = jwtUtil.getRejections();
+        for (Reason reason : Reason.values()) {
+            FunctionCounter.builder("gateway.jwt.rejected", rejections, r -> r.count(reason))
+                    .tag("reason", reason.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+    }
+
+    // 유효한 토큰이면 클레임을, 아니면 null을 반환
+    public TokenClaims resolve(String token) {
+        // JWS 형태가 아니면 다이제스트 계산이나 서명 검증 없이 거절
+        if (!TokenShape.looksLikeJws(token)) {
+            jwtUtil.reject(Reason.MALFORMED, null);
+            return null;
+        }
+
+        String digest = TokenDigest.of(token);
+        if (rejected.getIfPresent(digest) != null) {
+            negativeHits.increment();
+            return null;
+        }
+
+        TokenClaims claims = cache.get(digest, key -> jwtUtil.verifyClaims(token));
+        if (claims == null) {
+            rejected.put(digest, Boolean.TRUE);
+        }
+        return claims;
+    }
+
+    // 항목마다 토큰의 exp 시각에 맞춰 만료시킨다
+    private static class UntilTokenExpiry implements Expiry<String, TokenClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, TokenClaims claims, long currentTime) {
+            long remainingMillis = claims.expiresAt() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, TokenClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, TokenClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.amuraedo.gatewayservice.config;
+
+import com.amuraedo.gatewayservice.util.ResponseCompression;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CompressionConfig {
+
+    // Accept-Encoding 협상(gzip/deflate)은 Netty 가 하고, 어떤 응답을 압축할지는 ResponseCompression 기준을 따른다.
+    // server.compression 은 Content-Length 가 없는(chunked) 응답을 압축하지 않아 큰 목록 응답이 빠지므로 쓰지 않는다
+    @Bean
+    public NettyServerCustomizer compressionCustomizer(ResponseCompression responseCompression) {
+        return httpServer -> {
+            if (!responseCompression.isEnabled()) {
+                return httpServer;
+            }
+            return httpServer.compress((request, response) -> {
+                HttpHeaders headers = response.responseHeaders();
+                return responseCompression.isCompressible(
+                        headers.get(HttpHeaderNames.CONTENT_TYPE),
+                        contentLength(headers),
+                        headers.get(HttpHeaderNames.CONTENT_ENCODING)
+                );
+            });
+        };
+    }
+
+    private static long contentLength(HttpHeaders headers) {
+        String value = headers.get(HttpHeaderNames.CONTENT_LENGTH);
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.amuraedo.gatewayservice.config;
+
+import com.amuraedo.gatewayservice.filter.AuthorizationHeaderFilter;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+@Configuration
+public class DashboardConfig {
+
+    // 다른 라우트와 같은 인증 필터를 한 번 거친 뒤 게이트웨이 내부의 DashboardController 로 넘긴다
+    @Bean
+    public RouteLocator dashboardRoute(RouteLocatorBuilder builder, AuthorizationHeaderFilter authorizationHeaderFilter) {
+        return builder.routes()
+                .route("dashboard", r -> r.path("/api/v1/dashboard")
+                        .filters(f -> f.filter(authorizationHeaderFilter.apply(new AuthorizationHeaderFilter.Config())))
+                        .uri("forward:/dashboard"))
+                .build();
+    }
+
+    // lb://서비스명 으로 호출하는 대시보드 전용 WebClient (게이트웨이와 같은 로드밸런서를 쓴다)
+    @Bean
+    public WebClient dashboardWebClient(WebClient.Builder builder, ReactorLoadBalancerExchangeFilterFunction loadBalancerFunction) {
+        return builder.filter(loadBalancerFunction).build();
+    }
+}
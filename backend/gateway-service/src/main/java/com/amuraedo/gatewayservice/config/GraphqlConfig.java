@@ -0,0 +1,63 @@
+package com.amuraedo.gatewayservice.config;
+
+import com.amuraedo.gatewayservice.dto.GraphqlCaller;
+import com.amuraedo.gatewayservice.filter.AuthorizationHeaderFilter;
+import com.amuraedo.gatewayservice.filter.RequestDeadlineFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.graphql.server.WebGraphQlInterceptor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+@Configuration
+public class GraphqlConfig {
+
+    // 대시보드와 같이 인증 필터를 한 번 거친 뒤 게이트웨이 내부의 GraphQL 엔드포인트(/graphql)로 넘긴다
+    @Bean
+    public RouteLocator graphqlRoute(RouteLocatorBuilder builder, AuthorizationHeaderFilter authorizationHeaderFilter) {
+        return builder.routes()
+                .route("graphql", r -> r.path("/api/v1/graphql")
+                        .filters(f -> f.filter(authorizationHeaderFilter.apply(new AuthorizationHeaderFilter.Config())))
+                        .uri("forward:/graphql"))
+                .build();
+    }
+
+    // 리졸버가 lb://서비스명 으로 호출하는 WebClient
+    @Bean
+    public WebClient graphqlWebClient(WebClient.Builder builder, ReactorLoadBalancerExchangeFilterFunction loadBalancerFunction) {
+        return builder.filter(loadBalancerFunction).build();
+    }
+
+    // 인증 필터가 넣은 헤더를 GraphQL 컨텍스트(caller)로 옮긴다. 라우트를 거치지 않고 /graphql 로 직접 들어온 요청은 막는다
+    @Bean
+    public WebGraphQlInterceptor graphqlCallerInterceptor(@Value("${internal.secret-key}") String internalSecretKey) {
+        byte[] expectedSecret = internalSecretKey.getBytes(StandardCharsets.UTF_8);
+        return (request, chain) -> {
+            HttpHeaders headers = request.getHeaders();
+            String userId = headers.getFirst("X-User-Id");
+            String internalSecret = headers.getFirst("X-Internal-Secret");
+            if (userId == null || internalSecret == null
+                    || !MessageDigest.isEqual(internalSecret.getBytes(StandardCharsets.UTF_8), expectedSecret)) {
+                return Mono.error(new ResponseStatusException(HttpStatus.UNAUTHORIZED));
+            }
+
+            GraphqlCaller caller = new GraphqlCaller(
+                    userId,
+                    headers.getFirst("X-User-Role"),
+                    headers.getFirst(RequestDeadlineFilter.DEADLINE_HEADER)
+            );
+            request.configureExecutionInput((input, builder) -> builder.graphQLContext(context -> context.put("caller", caller)).build());
+            return chain.next(request);
+        };
+    }
+}
@@ -0,0 +1,11 @@
+package com.amuraedo.gatewayservice.config;
+
+import com.amuraedo.gatewayservice.loadbalancer.PeakEwmaLoadBalancerConfiguration;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+// lb:// 라우트 전체에 기본 라운드 로빈 대신 peak-EWMA + P2C 로드밸런서를 쓴다
+@Configuration
+@LoadBalancerClients(defaultConfiguration = PeakEwmaLoadBalancerConfiguration.class)
+public class LoadBalancerConfig {
+}
@@ -0,0 +1,19 @@
+package com.amuraedo.gatewayservice.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+
+@Configuration
+public class RedisConfig {
+
+    // 블랙리스트 변경 이벤트(pub/sub) 구독용 컨테이너
+    @Bean
+    public ReactiveRedisMessageListenerContainer reactiveRedisMessageListenerContainer(
+            ReactiveRedisConnectionFactory connectionFactory
+    ) {
+        return new ReactiveRedisMessageListenerContainer(connectionFactory);
+    }
+
+}
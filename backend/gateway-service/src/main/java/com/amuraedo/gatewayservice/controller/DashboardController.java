@@ -0,0 +1,51 @@
+package com.amuraedo.gatewayservice.controller;
+
+import com.amuraedo.gatewayservice.dto.ApiResponse;
+import com.amuraedo.gatewayservice.dto.DashboardResponse;
+import com.amuraedo.gatewayservice.service.DashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDate;
+
+// /api/v1/dashboard 라우트(DashboardConfig)에서 인증을 마친 요청만 forward 로 들어온다
+@RestController
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    @Value("${internal.secret-key}")
+    private String internalSecretKey;
+
+    public DashboardController(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    @GetMapping("/dashboard")
+    @Operation(summary = "대시보드에 필요한 통계/리포트/알림/운동/식단 정보를 한 번에 조회하는 API입니다.")
+    public Mono<ResponseEntity<ApiResponse<DashboardResponse>>> getDashboard(
+            @RequestHeader(value = "X-User-Id", required = false) String userId,
+            @RequestHeader(value = "X-User-Role", required = false) String role,
+            @RequestHeader(value = "X-Internal-Secret", required = false) String internalSecret,
+            @RequestParam(value = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        // 게이트웨이 라우트를 거치지 않고 /dashboard 로 직접 들어온 요청은 막는다
+        if (userId == null || internalSecret == null || !MessageDigest.isEqual(
+                internalSecret.getBytes(StandardCharsets.UTF_8), internalSecretKey.getBytes(StandardCharsets.UTF_8))) {
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(ApiResponse.error("Unauthorized")));
+        }
+
+        return dashboardService.getDashboard(userId, role, date != null ? date : LocalDate.now())
+                .map(dashboard -> ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(dashboard)));
+    }
+}
@@ -0,0 +1,87 @@
+package com.amuraedo.gatewayservice.controller;
+
+import com.amuraedo.gatewayservice.dto.AnswerDTO;
+import com.amuraedo.gatewayservice.dto.FeedDTO;
+import com.amuraedo.gatewayservice.dto.GraphqlCaller;
+import com.amuraedo.gatewayservice.dto.QuestionDTO;
+import com.amuraedo.gatewayservice.dto.ReportDTO;
+import com.amuraedo.gatewayservice.dto.StatsDTO;
+import com.amuraedo.gatewayservice.service.GraphqlDataService;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.ContextValue;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// /api/v1/graphql 라우트(GraphqlConfig)에서 인증을 마친 요청만 forward 로 들어온다 (caller 는 GraphqlConfig 의 인터셉터가 넣는다)
+@Controller
+public class GraphqlController {
+
+    private final GraphqlDataService graphqlDataService;
+
+    public GraphqlController(GraphqlDataService graphqlDataService) {
+        this.graphqlDataService = graphqlDataService;
+    }
+
+    @QueryMapping
+    public Mono<List<QuestionDTO>> questions(@ContextValue GraphqlCaller caller) {
+        return graphqlDataService.getAllQuestions(caller);
+    }
+
+    @QueryMapping
+    public Mono<List<QuestionDTO>> searchQuestions(@ContextValue GraphqlCaller caller, @Argument String keyword) {
+        return graphqlDataService.searchQuestions(caller, keyword);
+    }
+
+    @QueryMapping
+    public Mono<List<QuestionDTO>> myQuestions(@ContextValue GraphqlCaller caller) {
+        return graphqlDataService.getMyQuestions(caller);
+    }
+
+    @QueryMapping
+    public Mono<QuestionDTO> question(@ContextValue GraphqlCaller caller, @Argument Long questionId) {
+        return graphqlDataService.getQuestion(caller, questionId);
+    }
+
+    // 응답에 들어간 모든 Question 의 answers 를 모아 qna-service 를 한 번만 호출한다 (N+1 방지)
+    @BatchMapping(typeName = "Question", field = "answers", maxBatchSize = 100)
+    public Mono<Map<QuestionDTO, List<AnswerDTO>>> answers(List<QuestionDTO> questions, @ContextValue GraphqlCaller caller) {
+        List<Long> questionIds = questions.stream().map(QuestionDTO::questionId).distinct().toList();
+        return graphqlDataService.getAnswers(caller, questionIds)
+                .map(answers -> {
+                    Map<Long, List<AnswerDTO>> byQuestion = answers.stream()
+                            .collect(Collectors.groupingBy(AnswerDTO::questionId));
+                    Map<QuestionDTO, List<AnswerDTO>> result = new LinkedHashMap<>();
+                    for (QuestionDTO question : questions) {
+                        result.put(question, byQuestion.getOrDefault(question.questionId(), List.of()));
+                    }
+                    return result;
+                });
+    }
+
+    @QueryMapping
+    public Mono<List<FeedDTO>> myFeeds(@ContextValue GraphqlCaller caller) {
+        return graphqlDataService.getMyFeeds(caller);
+    }
+
+    @QueryMapping
+    public Mono<List<FeedDTO>> searchFeeds(@ContextValue GraphqlCaller caller, @Argument String feedTitle) {
+        return graphqlDataService.searchFeeds(caller, feedTitle);
+    }
+
+    @QueryMapping
+    public Mono<List<ReportDTO>> myReports(@ContextValue GraphqlCaller caller) {
+        return graphqlDataService.getMyReports(caller);
+    }
+
+    @QueryMapping
+    public Mono<List<StatsDTO>> myStats(@ContextValue GraphqlCaller caller) {
+        return graphqlDataService.getMyStats(caller);
+    }
+}
@@ -0,0 +1,10 @@
+package com.amuraedo.gatewayservice.dto;
+
+// qna-service 의 AnswerResponseDTO
+public record AnswerDTO(
+        Long answerId,
+        Long userId,
+        Long questionId,
+        String answerContent
+) {
+}
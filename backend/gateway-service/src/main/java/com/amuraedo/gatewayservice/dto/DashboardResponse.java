@@ -0,0 +1,16 @@
+package com.amuraedo.gatewayservice.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+
+// 각 서비스 응답의 data(ApiResponse 로 감싸지 않는 서비스는 본문 전체)를 그대로 담는다 (실패한 항목은 null 이고 failed 에 이름이 들어간다)
+public record DashboardResponse(
+        JsonNode userStats,
+        JsonNode reports,
+        JsonNode unreadNotifications,
+        JsonNode workoutPlans,
+        JsonNode dietPlans,
+        List<String> failed
+) {
+}
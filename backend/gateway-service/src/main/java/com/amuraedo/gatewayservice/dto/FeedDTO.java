@@ -0,0 +1,11 @@
+package com.amuraedo.gatewayservice.dto;
+
+// feed-service 의 FeedResponseDTO
+public record FeedDTO(
+        Long feedId,
+        Long userId,
+        String feedTitle,
+        String feedContent,
+        String imageUrl
+) {
+}
@@ -0,0 +1,9 @@
+package com.amuraedo.gatewayservice.dto;
+
+// GraphQL 요청을 보낸 사용자. 리졸버가 다른 서비스를 호출할 때 같은 헤더로 넘긴다 (deadline 은 없을 수 있음)
+public record GraphqlCaller(
+        String userId,
+        String role,
+        String deadline
+) {
+}
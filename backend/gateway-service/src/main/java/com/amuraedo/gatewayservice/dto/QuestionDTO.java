@@ -0,0 +1,13 @@
+package com.amuraedo.gatewayservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+
+// qna-service 의 QuestionResponseDTO
+public record QuestionDTO(
+        Long questionId,
+        Long userId,
+        String questionTitle,
+        String questionContent,
+        @JsonAlias("answered") boolean isAnswered
+) {
+}
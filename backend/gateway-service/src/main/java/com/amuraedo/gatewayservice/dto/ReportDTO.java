@@ -0,0 +1,13 @@
+package com.amuraedo.gatewayservice.dto;
+
+import java.time.LocalDate;
+
+// report-service 의 ReportViewDTO
+public record ReportDTO(
+        LocalDate startDate,
+        LocalDate endDate,
+        Integer plannedAmount,
+        Integer achievedAmount,
+        String resultValue
+) {
+}
@@ -0,0 +1,12 @@
+package com.amuraedo.gatewayservice.dto;
+
+import java.time.LocalDate;
+
+// stats-service 의 StatsViewDTO
+public record StatsDTO(
+        LocalDate startDate,
+        LocalDate endDate,
+        Integer totalDuration,
+        Integer totalCalories
+) {
+}
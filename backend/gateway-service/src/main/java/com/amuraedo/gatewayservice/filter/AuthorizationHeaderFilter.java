@@ -1,10 +1,13 @@
 package com.amuraedo.gatewayservice.filter;
 
+import com.amuraedo.gatewayservice.cache.ClaimsCache;
+import com.amuraedo.gatewayservice.metrics.LatencyMetrics;
 import com.amuraedo.gatewayservice.util.GatewayRedisUtil;
-import com.amuraedo.gatewayservice.util.JwtUtil;
+import com.amuraedo.gatewayservice.util.TokenClaims;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -18,24 +21,32 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public class AuthorizationHeaderFilter extends AbstractGatewayFilterFactory<AuthorizationHeaderFilter.Config> {
 
-    private final JwtUtil jwtUtil;
+    // 다른 필터(요청 제한, 요청 병합 등)보다 항상 먼저 인증하도록 라우트 설정 순서와 무관한 고정 순서를 쓴다
+    public static final int ORDER = -200;
+
+    // 토큰 검증을 통과한 사용자 id. 클라이언트가 보낸 X-User-Id 헤더와 달리 위조할 수 없다
+    public static final String VERIFIED_USER_ID_ATTR = AuthorizationHeaderFilter.class.getName() + ".verifiedUserId";
+
+    private final ClaimsCache claimsCache;
     private final GatewayRedisUtil redisUtil;
+    private final LatencyMetrics latencyMetrics;
 
     @Value("${internal.secret-key}")
     private String internalSecretKey;
 
     // ⭕ 생성자를 직접 만들고, super(Config.class)를 꼭 호출해야 합니다!
-    public AuthorizationHeaderFilter(JwtUtil jwtUtil, GatewayRedisUtil redisUtil) {
+    public AuthorizationHeaderFilter(ClaimsCache claimsCache, GatewayRedisUtil redisUtil, LatencyMetrics latencyMetrics) {
         super(Config.class); // ⭐ 핵심: 부모에게 "내 설정 클래스는 Config야"라고 알려줌
-        this.jwtUtil = jwtUtil;
+        this.claimsCache = claimsCache;
         this.redisUtil = redisUtil;
+        this.latencyMetrics = latencyMetrics;
     }
 
     public static class Config { }
 
     @Override
     public GatewayFilter apply(Config config) {
-        return (exchange, chain) -> {
+        return new OrderedGatewayFilter((exchange, chain) -> {
             ServerHttpRequest request = exchange.getRequest();
 
             // 헤더 유무 확인
@@ -46,35 +57,39 @@ public class AuthorizationHeaderFilter extends AbstractGatewayFilterFactory<Auth
             String authHeeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
             String token = authHeeader.replace("Bearer ", "");
 
-            if(!jwtUtil.validateToken(token)){
+            // 검증된 클레임은 토큰 만료 시각까지 캐시되므로 재요청 시 파싱을 생략
+            long jwtStart = System.nanoTime();
+            TokenClaims claims = claimsCache.resolve(token);
+            latencyMetrics.recordAuth("jwt", claims != null ? "valid" : "invalid", System.nanoTime() - jwtStart);
+            if(claims == null){
                 return onError(exchange, "Invalid Token", HttpStatus.UNAUTHORIZED);
             }
 
-            return redisUtil.hasBlackList(token)
+            long blackListStart = System.nanoTime();
+            return redisUtil.hasBlackList(token, claims.tokenId())
+                    .doOnError(e -> latencyMetrics.recordAuth("blacklist", "error", System.nanoTime() - blackListStart))
                     .flatMap(isBlackListed -> {
+                        latencyMetrics.recordAuth("blacklist", isBlackListed ? "blacklisted" : "pass", System.nanoTime() - blackListStart);
                         if(isBlackListed){
                             return onError(exchange, "Logout Token (Blacklist)", HttpStatus.UNAUTHORIZED);
                         }
 
-                        String userId = jwtUtil.getUserId(token);
-                        String role = jwtUtil.getRole(token);
-
                         ServerHttpRequest modifiedRequest = request.mutate()
-                                .header("X-User-Id", userId)
-                                .header("X-User-Role", role)
+                                .header("X-User-Id", claims.userId())
+                                .header("X-User-Role", claims.role())
                                 .header("X-Internal-Secret", internalSecretKey)
                                 .build();
+                        exchange.getAttributes().put(VERIFIED_USER_ID_ATTR, claims.userId());
                         return chain.filter(exchange.mutate().request(modifiedRequest).build());
                     });
-
-
-        };
+        }, ORDER);
     }
 
     private Mono<Void> onError(ServerWebExchange exchange, String message, HttpStatus status) {
         ServerHttpResponse response = exchange.getResponse();
         response.setStatusCode(status);
-        log.error("Gateway Filter Error: {}", message);
+        // 건별 로그는 debug 로만 남기고, 운영에서는 TokenRejections 의 주기 요약과 gateway.jwt.rejected 지표로 본다
+        log.debug("Gateway Filter Error: {}", message);
         return response.setComplete();
     }
 
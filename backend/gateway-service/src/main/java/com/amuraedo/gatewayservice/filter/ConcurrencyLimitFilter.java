@@ -0,0 +1,128 @@
+package com.amuraedo.gatewayservice.filter;
+
+import com.amuraedo.gatewayservice.limiter.VegasLimit;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 다운스트림 서비스별 적응형 동시 요청 한도 필터.
+ * 서비스마다 VegasLimit 를 두고, 한도를 넘는 요청은 다운스트림에 쌓이기 전에 503 으로 바로 돌려준다.
+ *
+ * - low-priority-paths(검색 등)에 해당하는 요청은 한도의 low-priority-share 까지만 쓸 수 있어
+ *   포화 상태에서 먼저 버려지고, 인증/쓰기 요청은 나머지 여유분을 쓴다
+ * - 로드밸런서 필터 바로 앞에서 실행되므로 요청 병합(RequestCoalescingFilter)으로 응답을 공유받는 요청은 한도를 쓰지 않는다
+ * - 지표: gateway.concurrency.limit / gateway.concurrency.in-flight (service), gateway.concurrency.rejected (service, priority)
+ */
+@Slf4j
+@Component
+public class ConcurrencyLimitFilter implements GlobalFilter, Ordered {
+
+    private final ConcurrentHashMap<String, VegasLimit> limits = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final List<PathPattern> lowPriorityPatterns;
+    private final double lowPriorityShare;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long probeIntervalNanos;
+
+    public ConcurrencyLimitFilter(
+            MeterRegistry meterRegistry,
+            @Value("${gateway.concurrency.low-priority-paths:}") List<String> lowPriorityPaths,
+            @Value("${gateway.concurrency.low-priority-share:0.7}") double lowPriorityShare,
+            @Value("${gateway.concurrency.initial-limit:20}") int initialLimit,
+            @Value("${gateway.concurrency.min-limit:4}") int minLimit,
+            @Value("${gateway.concurrency.max-limit:500}") int maxLimit,
+            @Value("${gateway.concurrency.probe-interval:60s}") Duration probeInterval
+    ) {
+        this.meterRegistry = meterRegistry;
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        this.lowPriorityPatterns = lowPriorityPaths.stream()
+                .filter(path -> !path.isBlank())
+                .map(path -> parser.parse(path.trim()))
+                .toList();
+        this.lowPriorityShare = lowPriorityShare;
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.probeIntervalNanos = probeInterval.toNanos();
+    }
+
+    @Override
+    public int getOrder() {
+        // hedging 필터가 직접 호출하는 요청도 한도에 포함되도록 그보다 먼저 실행
+        return HedgingFilter.ORDER - 1;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route == null || !"lb".equals(route.getUri().getScheme())) {
+            return chain.filter(exchange);
+        }
+
+        String serviceId = route.getUri().getHost().toLowerCase();
+        VegasLimit limit = limits.computeIfAbsent(serviceId, this::newLimit);
+        boolean lowPriority = isLowPriority(exchange);
+
+        if (!limit.tryAcquire(lowPriority ? lowPriorityShare : 1.0)) {
+            meterRegistry.counter("gateway.concurrency.rejected", "service", serviceId, "priority", lowPriority ? "low" : "normal")
+                    .increment();
+            log.debug("Concurrency limit {} reached for {}", limit.getLimit(), serviceId);
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            return response.setComplete();
+        }
+
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    if (signal == SignalType.CANCEL) {
+                        limit.release();
+                        return;
+                    }
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    boolean dropped = signal == SignalType.ON_ERROR
+                            || status == HttpStatus.SERVICE_UNAVAILABLE
+                            || status == HttpStatus.GATEWAY_TIMEOUT;
+                    limit.release(System.nanoTime() - start, dropped);
+                });
+    }
+
+    private VegasLimit newLimit(String serviceId) {
+        VegasLimit limit = new VegasLimit(initialLimit, minLimit, maxLimit, probeIntervalNanos);
+        Gauge.builder("gateway.concurrency.limit", limit, VegasLimit::getLimit)
+                .tag("service", serviceId)
+                .register(meterRegistry);
+        Gauge.builder("gateway.concurrency.in-flight", limit, VegasLimit::getInFlight)
+                .tag("service", serviceId)
+                .register(meterRegistry);
+        return limit;
+    }
+
+    private boolean isLowPriority(ServerWebExchange exchange) {
+        PathContainer path = exchange.getRequest().getPath().pathWithinApplication();
+        return lowPriorityPatterns.stream().anyMatch(pattern -> pattern.matches(path));
+    }
+}
@@ -0,0 +1,421 @@
+package com.amuraedo.gatewayservice.filter;
+
+import com.amuraedo.gatewayservice.loadbalancer.InstanceStats;
+import com.amuraedo.gatewayservice.loadbalancer.InstanceStatsRegistry;
+import com.amuraedo.gatewayservice.metrics.LatencyMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.RequestData;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 멱등 GET 요청의 hedging 필터.
+ * gateway.hedging.paths 에 등록된 요청은 로드밸런서가 고른 인스턴스로 먼저 보내고,
+ * 라우트의 p95 응답 시간이 지나도 응답이 없으면 다른 인스턴스로 한 번 더 보낸다.
+ * 먼저 도착한 응답을 돌려주고 나머지 호출은 취소한다.
+ *
+ * - 전체 제한 시간은 라우트 metadata 의 response-timeout(ms), 없으면 default-timeout. 넘으면 504
+ * - hedge 는 대상 요청의 max-ratio 비율까지만 보낸다 (장애 시 부하가 두 배가 되지 않도록)
+ * - 요청/응답 헤더는 NettyRoutingFilter 와 같은 HttpHeadersFilter 체인(X-Forwarded-*, hop-by-hop 제거)을 거친다
+ * - 5xx 응답은 실패로 보고 다른 쪽 응답을 기다린다 (인스턴스 통계에도 실패로 남김). 모두 5xx 면 마지막 5xx 를 그대로 돌려준다
+ * - 각 호출 시간은 gateway.upstream 에도 기록한다 (UpstreamLatencyFilter 를 거치지 않으므로)
+ * - 응답 본문은 max-body-size 까지만 메모리에 받는다. 넘는 라우트는 hedge 없이 원래 경로로 다시 보내고 잠시 hedging 대상에서 뺀다
+ * - 지표: gateway.hedge.requests / fired / won / timeout / oversized (route), gateway.hedge.upstream (route, p95)
+ */
+@Slf4j
+@Component
+public class HedgingFilter implements GlobalFilter, Ordered {
+
+    public static final int ORDER = ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER - 1;
+
+    private static final String RESPONSE_TIMEOUT_METADATA = "response-timeout";
+    // 이보다 적게 측정된 라우트는 p95 대신 min-delay 의 두 배를 쓴다
+    private static final long MIN_SAMPLES = 20;
+    // 본문이 max-body-size 를 넘은 라우트를 hedging 에서 빼 두는 시간
+    private static final Duration OVERSIZED_BACKOFF = Duration.ofMinutes(10);
+
+    private final LoadBalancerClientFactory loadBalancerClientFactory;
+    private final InstanceStatsRegistry instanceStatsRegistry;
+    private final MeterRegistry meterRegistry;
+    private final LatencyMetrics latencyMetrics;
+    // HttpHeadersFilter 빈 중 일부가 게이트웨이 설정에 의존하므로 NettyRoutingFilter 처럼 처음 쓸 때 가져온다
+    private final ObjectProvider<List<HttpHeadersFilter>> headersFiltersProvider;
+    private volatile List<HttpHeadersFilter> headersFilters;
+    private final WebClient webClient;
+    private final List<PathPattern> patterns;
+    private final Duration minDelay;
+    private final Duration defaultTimeout;
+    private final double maxRatio;
+    private final long maxBodySize;
+
+    // 요청마다 maxRatio 만큼 쌓이고 hedge 를 보낼 때 1 씩 쓰는 예산 (1/1000 단위)
+    private final AtomicLong budget = new AtomicLong();
+    private final Map<String, Timer> upstreamTimers = new ConcurrentHashMap<>();
+    // route -> hedging 을 다시 시도할 시각 (nanoTime)
+    private final Map<String, Long> oversizedRoutes = new ConcurrentHashMap<>();
+
+    public HedgingFilter(
+            LoadBalancerClientFactory loadBalancerClientFactory,
+            InstanceStatsRegistry instanceStatsRegistry,
+            MeterRegistry meterRegistry,
+            LatencyMetrics latencyMetrics,
+            ObjectProvider<List<HttpHeadersFilter>> headersFiltersProvider,
+            WebClient.Builder webClientBuilder,
+            @Value("${gateway.hedging.paths:}") List<String> paths,
+            @Value("${gateway.hedging.min-delay:20ms}") Duration minDelay,
+            @Value("${gateway.hedging.default-timeout:3s}") Duration defaultTimeout,
+            @Value("${gateway.hedging.max-ratio:0.1}") double maxRatio,
+            @Value("${gateway.hedging.max-body-size:256KB}") DataSize maxBodySize
+    ) {
+        this.loadBalancerClientFactory = loadBalancerClientFactory;
+        this.instanceStatsRegistry = instanceStatsRegistry;
+        this.meterRegistry = meterRegistry;
+        this.latencyMetrics = latencyMetrics;
+        this.headersFiltersProvider = headersFiltersProvider;
+        this.maxBodySize = maxBodySize.toBytes();
+        this.webClient = webClientBuilder
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(Math.toIntExact(this.maxBodySize)))
+                .build();
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        this.patterns = paths.stream()
+                .filter(path -> !path.isBlank())
+                .map(path -> parser.parse(path.trim()))
+                .toList();
+        this.minDelay = minDelay;
+        this.defaultTimeout = defaultTimeout;
+        this.maxRatio = maxRatio;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        URI requestUrl = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (patterns.isEmpty() || route == null || requestUrl == null || !"lb".equals(requestUrl.getScheme())
+                || exchange.getRequest().getMethod() != HttpMethod.GET || !isHedgeable(exchange)) {
+            return chain.filter(exchange);
+        }
+
+        String routeId = route.getId();
+        if (isOversized(routeId)) {
+            return chain.filter(exchange);
+        }
+        String serviceId = requestUrl.getHost();
+        Duration timeout = responseTimeout(route);
+        meterRegistry.counter("gateway.hedge.requests", "route", routeId).increment();
+        budget.accumulateAndGet((long) (maxRatio * 1000), (current, add) -> Math.min(current + add, 10_000));
+
+        // X-Forwarded-* 추가, hop-by-hop 제거 등 NettyRoutingFilter 와 같은 요청 헤더를 만든다
+        HttpHeaders requestHeaders = new HttpHeaders();
+        requestHeaders.addAll(HttpHeadersFilter.filterRequest(headersFilters(), exchange));
+        if (!Boolean.TRUE.equals(exchange.getAttribute(ServerWebExchangeUtils.PRESERVE_HOST_HEADER_ATTRIBUTE))) {
+            requestHeaders.remove(HttpHeaders.HOST);
+        }
+
+        ServerWebExchangeUtils.setAlreadyRouted(exchange);
+        return choosePrimary(serviceId, exchange)
+                .flatMap(primary -> {
+                    Mono<ResponseEntity<byte[]>> primaryCall = call(primary, requestUrl, requestHeaders, routeId);
+                    Mono<ResponseEntity<byte[]>> hedgeCall = Mono.delay(hedgeDelay(routeId))
+                            .then(Mono.defer(() -> chooseOther(serviceId, primary, exchange)))
+                            .flatMap(other -> {
+                                if (!takeBudget()) {
+                                    return Mono.<ResponseEntity<byte[]>>empty();
+                                }
+                                meterRegistry.counter("gateway.hedge.fired", "route", routeId).increment();
+                                return call(other, requestUrl, requestHeaders, routeId)
+                                        .doOnNext(response -> meterRegistry.counter("gateway.hedge.won", "route", routeId).increment());
+                            });
+
+                    // 값이 먼저 온 쪽을 쓰고, 비어 있거나 실패한 쪽은 무시한다 (다른 인스턴스가 없으면 primary 만 기다림)
+                    return Mono.firstWithValue(primaryCall, hedgeCall);
+                })
+                .timeout(timeout)
+                // 호출할 인스턴스가 하나도 없으면 503
+                .defaultIfEmpty(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build())
+                .flatMap(response -> write(exchange, response))
+                .onErrorResume(e -> {
+                    if (isOversized(routeId)) {
+                        // 아직 클라이언트로 쓴 것이 없으므로 hedge 없이 원래 라우팅으로 넘긴다
+                        exchange.getAttributes().remove(ServerWebExchangeUtils.GATEWAY_ALREADY_ROUTED_ATTR);
+                        return chain.filter(exchange);
+                    }
+                    // 모든 호출이 5xx 였으면 업스트림의 5xx 응답을 그대로 전달한다
+                    UpstreamServerErrorException serverError = findServerError(e);
+                    if (serverError != null) {
+                        return write(exchange, serverError.getResponse());
+                    }
+                    if (e instanceof TimeoutException) {
+                        meterRegistry.counter("gateway.hedge.timeout", "route", routeId).increment();
+                        return writeStatus(exchange.getResponse(), HttpStatus.GATEWAY_TIMEOUT);
+                    }
+                    log.warn("Hedged request to {} failed: {}", serviceId, e.toString());
+                    return writeStatus(exchange.getResponse(), HttpStatus.BAD_GATEWAY);
+                });
+    }
+
+    private List<HttpHeadersFilter> headersFilters() {
+        List<HttpHeadersFilter> filters = headersFilters;
+        if (filters == null) {
+            filters = headersFiltersProvider.getIfAvailable(List::of);
+            headersFilters = filters;
+        }
+        return filters;
+    }
+
+    // firstWithValue 는 모든 호출이 실패하면 각 실패를 cause/suppressed 로 묶어 돌려준다
+    private static UpstreamServerErrorException findServerError(Throwable e) {
+        if (e == null) {
+            return null;
+        }
+        if (e instanceof UpstreamServerErrorException serverError) {
+            return serverError;
+        }
+        for (Throwable suppressed : e.getSuppressed()) {
+            UpstreamServerErrorException found = findServerError(suppressed);
+            if (found != null) {
+                return found;
+            }
+        }
+        return e.getCause() != e ? findServerError(e.getCause()) : null;
+    }
+
+    private boolean isHedgeable(ServerWebExchange exchange) {
+        PathContainer path = exchange.getRequest().getPath().pathWithinApplication();
+        return patterns.stream().anyMatch(pattern -> pattern.matches(path));
+    }
+
+    private boolean isOversized(String routeId) {
+        Long retryAt = oversizedRoutes.get(routeId);
+        if (retryAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - retryAt >= 0) {
+            oversizedRoutes.remove(routeId, retryAt);
+            return false;
+        }
+        return true;
+    }
+
+    private void markOversized(String routeId) {
+        meterRegistry.counter("gateway.hedge.oversized", "route", routeId).increment();
+        if (oversizedRoutes.put(routeId, System.nanoTime() + OVERSIZED_BACKOFF.toNanos()) == null) {
+            log.info("Hedging disabled for route {} for {}: response body exceeds {} bytes", routeId, OVERSIZED_BACKOFF, maxBodySize);
+        }
+    }
+
+    private boolean takeBudget() {
+        while (true) {
+            long current = budget.get();
+            if (current < 1000) {
+                return false;
+            }
+            if (budget.compareAndSet(current, current - 1000)) {
+                return true;
+            }
+        }
+    }
+
+    private Duration responseTimeout(Route route) {
+        Object value = route.getMetadata().get(RESPONSE_TIMEOUT_METADATA);
+        if (value instanceof Number number) {
+            return Duration.ofMillis(number.longValue());
+        }
+        if (value instanceof String text && !text.isBlank()) {
+            return Duration.ofMillis(Long.parseLong(text.trim()));
+        }
+        return defaultTimeout;
+    }
+
+    // 최근 응답 시간의 p95. 측정값이 적으면 보수적으로 min-delay 의 두 배
+    private Duration hedgeDelay(String routeId) {
+        Timer timer = upstreamTimer(routeId);
+        if (timer.count() < MIN_SAMPLES) {
+            return minDelay.multipliedBy(2);
+        }
+        for (ValueAtPercentile percentile : timer.takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == 0.95) {
+                long p95 = (long) percentile.value(TimeUnit.NANOSECONDS);
+                return Duration.ofNanos(Math.max(p95, minDelay.toNanos()));
+            }
+        }
+        return minDelay.multipliedBy(2);
+    }
+
+    private Timer upstreamTimer(String routeId) {
+        return upstreamTimers.computeIfAbsent(routeId, id -> Timer.builder("gateway.hedge.upstream")
+                .tag("route", id)
+                .publishPercentiles(0.95)
+                .distributionStatisticExpiry(Duration.ofMinutes(1))
+                .register(meterRegistry));
+    }
+
+    private Mono<ServiceInstance> choosePrimary(String serviceId, ServerWebExchange exchange) {
+        ReactorServiceInstanceLoadBalancer loadBalancer =
+                loadBalancerClientFactory.getInstance(serviceId, ReactorServiceInstanceLoadBalancer.class);
+        if (loadBalancer == null) {
+            return Mono.empty();
+        }
+        DefaultRequest<RequestDataContext> request =
+                new DefaultRequest<>(new RequestDataContext(new RequestData(exchange.getRequest(), exchange.getAttributes())));
+        return loadBalancer.choose(request)
+                .filter(Response::hasServer)
+                .map(Response::getServer);
+    }
+
+    private Mono<ServiceInstance> chooseOther(String serviceId, ServiceInstance primary, ServerWebExchange exchange) {
+        ServiceInstanceListSupplier supplier =
+                loadBalancerClientFactory.getInstance(serviceId, ServiceInstanceListSupplier.class);
+        if (supplier == null) {
+            return Mono.empty();
+        }
+        DefaultRequest<RequestDataContext> request =
+                new DefaultRequest<>(new RequestDataContext(new RequestData(exchange.getRequest(), exchange.getAttributes())));
+        return supplier.get(request).next()
+                .flatMap(instances -> {
+                    List<ServiceInstance> others = instances.stream()
+                            .filter(instance -> !(instance.getHost().equals(primary.getHost()) && instance.getPort() == primary.getPort()))
+                            .toList();
+                    if (others.isEmpty()) {
+                        return Mono.empty();
+                    }
+                    return Mono.just(others.get(ThreadLocalRandom.current().nextInt(others.size())));
+                });
+    }
+
+    // 인스턴스로 직접 요청을 보내고 응답 본문까지 받는다 (max-body-size 까지). 취소되면 연결도 닫힌다
+    private Mono<ResponseEntity<byte[]>> call(ServiceInstance instance, URI requestUrl, HttpHeaders requestHeaders, String routeId) {
+        URI uri = UriComponentsBuilder.fromUri(instance.getUri())
+                .path(requestUrl.getRawPath())
+                .query(requestUrl.getRawQuery())
+                .build(true)
+                .toUri();
+        InstanceStats stats = instanceStatsRegistry.get(instance);
+        Timer timer = upstreamTimer(routeId);
+
+        return Mono.defer(() -> {
+            stats.start();
+            long start = System.nanoTime();
+            return webClient.get()
+                    .uri(uri)
+                    .headers(headers -> headers.addAll(requestHeaders))
+                    .exchangeToMono(response -> {
+                        // Content-Length 로 미리 알 수 있으면 본문을 읽지 않고 버린다
+                        long contentLength = response.headers().contentLength().orElse(-1);
+                        if (contentLength > maxBodySize) {
+                            return response.releaseBody()
+                                    .then(Mono.error(new DataBufferLimitException("Response body of " + contentLength + " bytes exceeds " + maxBodySize)));
+                        }
+                        // 5xx 는 값이 아닌 실패로 넘겨 다른 쪽(hedge)이 이길 수 있게 한다
+                        if (response.statusCode().is5xxServerError()) {
+                            return response.toEntity(byte[].class)
+                                    .flatMap(entity -> Mono.<ResponseEntity<byte[]>>error(new UpstreamServerErrorException(entity)));
+                        }
+                        return response.toEntity(byte[].class);
+                    })
+                    .doOnNext(response -> {
+                        long elapsed = System.nanoTime() - start;
+                        timer.record(Duration.ofNanos(elapsed));
+                        latencyMetrics.recordUpstream(routeId, response.getStatusCode(), elapsed);
+                        stats.complete(elapsed);
+                    })
+                    .doOnError(e -> {
+                        if (e instanceof UpstreamServerErrorException serverError) {
+                            latencyMetrics.recordUpstream(routeId, serverError.getResponse().getStatusCode(), System.nanoTime() - start);
+                            stats.fail();
+                        } else if (e instanceof DataBufferLimitException) {
+                            // 인스턴스는 정상 응답했으므로 실패로 세지 않는다
+                            stats.complete(System.nanoTime() - start);
+                            markOversized(routeId);
+                        } else {
+                            stats.fail();
+                        }
+                    })
+                    .doOnCancel(() -> stats.complete(System.nanoTime() - start));
+        });
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange, ResponseEntity<byte[]> upstream) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(upstream.getStatusCode());
+        // 응답 헤더도 HttpHeadersFilter 체인으로 거른다 (hop-by-hop 제거). 본문 길이는 아래에서 다시 정한다
+        HttpHeaders filtered = HttpHeadersFilter.filter(headersFilters(), upstream.getHeaders(), exchange, HttpHeadersFilter.Type.RESPONSE);
+        filtered.forEach((name, values) -> {
+            if (!HttpHeaders.TRANSFER_ENCODING.equalsIgnoreCase(name)) {
+                response.getHeaders().put(name, values);
+            }
+        });
+        byte[] body = upstream.getBody();
+        if (body == null) {
+            return response.setComplete();
+        }
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    private Mono<Void> writeStatus(ServerHttpResponse response, HttpStatus status) {
+        response.setStatusCode(status);
+        return response.setComplete();
+    }
+
+    // 업스트림이 5xx 로 응답함. 모든 호출이 실패했을 때 돌려줄 수 있도록 응답을 담아 둔다
+    private static final class UpstreamServerErrorException extends RuntimeException {
+
+        private final transient ResponseEntity<byte[]> response;
+
+        private UpstreamServerErrorException(ResponseEntity<byte[]> response) {
+            super("Upstream responded " + response.getStatusCode(), null, false, false);
+            this.response = response;
+        }
+
+        private ResponseEntity<byte[]> getResponse() {
+            return response;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.amuraedo.gatewayservice.filter;
+
+import com.amuraedo.gatewayservice.loadbalancer.InstanceStatsRegistry;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * 취소된 업스트림 호출의 처리 중 요청 수를 되돌린다.
+ * ReactiveLoadBalancerClientFilter 는 성공/실패 때만 LoadBalancerLifecycle.onComplete 를 부르고 취소 때는 부르지 않으므로,
+ * 클라이언트 연결 끊김이나 ConcurrencyLimitFilter/타임아웃에 의한 취소가 InstanceStats 에 남아 비용이 계속 커진다.
+ */
+@Component
+public class InstanceStatsCancelFilter implements GlobalFilter, Ordered {
+
+    // 로드밸런서가 인스턴스를 고르고 onStartRequest 를 부른 다음에 실행되어야 한다
+    public static final int ORDER = ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER + 1;
+
+    private final InstanceStatsRegistry registry;
+
+    public InstanceStatsCancelFilter(InstanceStatsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    if (signal != SignalType.CANCEL) {
+                        return;
+                    }
+                    Response<ServiceInstance> response = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+                    if (response != null && response.hasServer()) {
+                        registry.get(response.getServer()).cancel();
+                    }
+                });
+    }
+}
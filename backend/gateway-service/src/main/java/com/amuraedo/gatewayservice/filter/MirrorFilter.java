@@ -0,0 +1,196 @@
+package com.amuraedo.gatewayservice.filter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.RouteToRequestUrlFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 새 빌드를 실제 트래픽으로 비교하기 위한 shadow 미러링 필터.
+ * 라우트의 GET 요청 중 sampleRate 비율을 같은 경로로 shadow 서비스(Eureka 서비스명)에도 보낸다.
+ * 사용자 응답은 항상 원래 서비스의 것이고, shadow 호출은 기다리지 않는다.
+ *
+ * - shadow 호출은 max-in-flight 개까지만 동시에 보내고, 넘으면 보내지 않는다 (dropped)
+ * - shadow 응답 본문은 읽지 않고 버린다
+ * - 지표: gateway.mirror.requests (route, result=sent|dropped|failed),
+ *         gateway.mirror.upstream (route, target=primary|shadow),
+ *         gateway.mirror.latency.delta (route, shadow=slower|faster, ms)
+ *
+ * 라우트 설정 예)
+ *   filters:
+ *     - name: MirrorFilter
+ *       args:
+ *         shadowService: stats-service-shadow
+ *         sampleRate: 0.05
+ */
+@Slf4j
+@Component
+public class MirrorFilter extends AbstractGatewayFilterFactory<MirrorFilter.Config> {
+
+    // 라우트 필터가 경로를 바꾼 뒤(lb://서비스/경로 가 정해진 뒤), hedging/로드밸런서보다 먼저
+    public static final int ORDER = RouteToRequestUrlFilter.ROUTE_TO_URL_FILTER_ORDER + 1;
+
+    private final MeterRegistry meterRegistry;
+    private final WebClient webClient;
+    private final Semaphore inFlight;
+    private final Duration timeout;
+
+    public MirrorFilter(
+            MeterRegistry meterRegistry,
+            WebClient.Builder webClientBuilder,
+            ReactorLoadBalancerExchangeFilterFunction loadBalancerFunction,
+            @Value("${gateway.mirror.max-in-flight:50}") int maxInFlight,
+            @Value("${gateway.mirror.timeout:5s}") Duration timeout
+    ) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+        this.webClient = webClientBuilder.filter(loadBalancerFunction).build();
+        this.inFlight = new Semaphore(maxInFlight);
+        this.timeout = timeout;
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+        private String shadowService;     // shadow 빌드가 Eureka 에 등록한 서비스명
+        private double sampleRate = 0.01; // 미러링할 GET 요청 비율 (0 ~ 1)
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("shadowService", "sampleRate");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            URI requestUrl = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+            if (config.getShadowService() == null || requestUrl == null
+                    || exchange.getRequest().getMethod() != HttpMethod.GET
+                    || ThreadLocalRandom.current().nextDouble() >= config.getSampleRate()) {
+                return chain.filter(exchange);
+            }
+
+            String routeId = routeId(exchange);
+            if (!inFlight.tryAcquire()) {
+                meterRegistry.counter("gateway.mirror.requests", "route", routeId, "result", "dropped").increment();
+                return chain.filter(exchange);
+            }
+
+            LatencyPair pair = new LatencyPair(routeId);
+            mirror(exchange, requestUrl, config.getShadowService(), pair);
+
+            long start = System.nanoTime();
+            return chain.filter(exchange)
+                    .doFinally(signal -> pair.primary(System.nanoTime() - start));
+        }, ORDER);
+    }
+
+    // 응답을 기다리지 않고 따로 구독한다. 원래 요청이 취소되어도 shadow 호출은 그대로 끝까지 간다
+    private void mirror(ServerWebExchange exchange, URI requestUrl, String shadowService, LatencyPair pair) {
+        URI shadowUri = UriComponentsBuilder.fromUri(requestUrl)
+                .scheme("lb")
+                .host(shadowService)
+                .build(true)
+                .toUri();
+        HttpHeaders requestHeaders = exchange.getRequest().getHeaders();
+        long start = System.nanoTime();
+
+        meterRegistry.counter("gateway.mirror.requests", "route", pair.routeId, "result", "sent").increment();
+        webClient.get()
+                .uri(shadowUri)
+                .headers(headers -> requestHeaders.forEach((name, values) -> {
+                    if (!HttpHeaders.HOST.equalsIgnoreCase(name) && !HttpHeaders.CONNECTION.equalsIgnoreCase(name)) {
+                        headers.addAll(name, values);
+                    }
+                }))
+                .exchangeToMono(response -> response.releaseBody())
+                .timeout(timeout)
+                .doFinally(signal -> inFlight.release())
+                .subscribe(
+                        ignored -> { },
+                        e -> {
+                            meterRegistry.counter("gateway.mirror.requests", "route", pair.routeId, "result", "failed").increment();
+                            log.debug("Mirror request to {} failed: {}", shadowService, e.toString());
+                        },
+                        () -> pair.shadow(System.nanoTime() - start)
+                );
+    }
+
+    private String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "unknown";
+    }
+
+    // primary 와 shadow 중 늦게 끝난 쪽이 두 응답 시간의 차이를 기록한다 (shadow 가 실패하면 기록하지 않음)
+    private class LatencyPair {
+
+        private final String routeId;
+        private final AtomicInteger remaining = new AtomicInteger(2);
+        private volatile long primaryNanos;
+        private volatile long shadowNanos;
+
+        private LatencyPair(String routeId) {
+            this.routeId = routeId;
+        }
+
+        private void primary(long nanos) {
+            record("primary", nanos);
+            primaryNanos = nanos;
+            if (remaining.decrementAndGet() == 0) {
+                delta(shadowNanos, primaryNanos);
+            }
+        }
+
+        private void shadow(long nanos) {
+            record("shadow", nanos);
+            shadowNanos = nanos;
+            if (remaining.decrementAndGet() == 0) {
+                delta(shadowNanos, primaryNanos);
+            }
+        }
+
+        private void record(String target, long nanos) {
+            Timer.builder("gateway.mirror.upstream")
+                    .tag("route", routeId)
+                    .tag("target", target)
+                    .register(meterRegistry)
+                    .record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        // 음수는 기록할 수 없어 shadow 가 느렸는지/빨랐는지를 태그로 나눈다
+        private void delta(long shadow, long primary) {
+            DistributionSummary.builder("gateway.mirror.latency.delta")
+                    .baseUnit("milliseconds")
+                    .tag("route", routeId)
+                    .tag("shadow", shadow >= primary ? "slower" : "faster")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(Math.abs(shadow - primary) / 1_000_000.0);
+        }
+    }
+}
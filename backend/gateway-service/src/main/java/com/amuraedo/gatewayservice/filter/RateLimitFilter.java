@@ -0,0 +1,116 @@
+package com.amuraedo.gatewayservice.filter;
+
+import com.amuraedo.gatewayservice.limiter.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+/**
+ * 라우트별 토큰 버킷 요청 제한 필터.
+ * 인증된 라우트는 AuthorizationHeaderFilter 가 검증한 사용자 id 로,
+ * 인증 전 라우트(/auth/login 등)는 클라이언트 IP 로 버킷을 나눈다.
+ *
+ * 라우트 설정 예)
+ *   filters:
+ *     - AuthorizationHeaderFilter
+ *     - name: RateLimitFilter
+ *       args:
+ *         replenishRate: 5
+ *         burstCapacity: 10
+ *         keyType: USER
+ */
+@Component
+@Slf4j
+public class RateLimitFilter extends AbstractGatewayFilterFactory<RateLimitFilter.Config> {
+
+    // 인증 필터 다음, 요청 병합 필터보다 먼저 실행되어야 병합된 요청도 각자 제한을 받는다
+    public static final int ORDER = AuthorizationHeaderFilter.ORDER + 100;
+
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitFilter(TokenBucketRateLimiter rateLimiter, MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.rateLimiter = rateLimiter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public enum KeyType { USER, IP }
+
+    @Getter
+    @Setter
+    public static class Config {
+        private double replenishRate = 10;  // 초당 채워지는 토큰 수
+        private long burstCapacity = 20;    // 버킷 최대 크기
+        private int requestedTokens = 1;    // 요청 1건이 쓰는 토큰 수
+        private KeyType keyType = KeyType.USER;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("replenishRate", "burstCapacity", "keyType");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            String routeId = routeId(exchange);
+            String bucketKey = routeId + ":" + resolveKey(exchange, config.getKeyType());
+
+            return rateLimiter.tryAcquire(bucketKey, config.getReplenishRate(), config.getBurstCapacity(), config.getRequestedTokens())
+                    .flatMap(result -> {
+                        ServerHttpResponse response = exchange.getResponse();
+                        response.getHeaders().set(REMAINING_HEADER, String.valueOf(result.remaining()));
+
+                        if (result.allowed()) {
+                            return chain.filter(exchange);
+                        }
+
+                        meterRegistry.counter("gateway.ratelimit.throttled", "route", routeId).increment();
+                        log.debug("Rate limited: {}", bucketKey);
+
+                        long retryAfterSeconds = Math.max(1, (result.retryAfterMillis() + 999) / 1000);
+                        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+                        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+                        return response.setComplete();
+                    });
+        }, ORDER);
+    }
+
+    private String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "unknown";
+    }
+
+    // USER 인데 검증된 사용자 id 가 없으면(인증 필터가 없는 라우트) IP 로 대신한다.
+    // 클라이언트가 보낸 X-User-Id 헤더는 값을 바꿔 가며 새 버킷을 받을 수 있으므로 쓰지 않는다
+    private String resolveKey(ServerWebExchange exchange, KeyType keyType) {
+        if (keyType == KeyType.USER) {
+            String userId = exchange.getAttribute(AuthorizationHeaderFilter.VERIFIED_USER_ID_ATTR);
+            if (userId != null) {
+                return "user:" + userId;
+            }
+        }
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        String ip = remoteAddress != null && remoteAddress.getAddress() != null
+                ? remoteAddress.getAddress().getHostAddress()
+                : "unknown";
+        return "ip:" + ip;
+    }
+}
@@ -0,0 +1,311 @@
+package com.amuraedo.gatewayservice.filter;
+
+import com.amuraedo.gatewayservice.util.ResponseCompression;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 사용자와 무관한 GET 응답(주간 랭킹 등)에 대한 single-flight 필터.
+ * 같은 경로+쿼리로 동시에 들어온 요청은 먼저 온 요청(leader)의 업스트림 호출 하나를 공유하고,
+ * leader 의 응답 본문을 버퍼링해 나머지 요청(follower)에게 그대로 돌려준다.
+ *
+ * - gateway.coalescing.paths 에 등록된 경로만 대상 (사용자별 응답을 주는 경로를 넣으면 안 된다)
+ * - 2xx 이고 max-body-size 이하인 응답만 공유, 그 외에는 follower 가 각자 업스트림을 호출
+ *   (leader 응답은 그대로 흘려보내고 max-body-size 까지만 사본을 모은다)
+ * - 요청별 응답 헤더(요청 제한 잔량, Set-Cookie 등)는 공유하지 않는다
+ * - micro-cache-ttl 이 0 보다 크면 완료된 응답을 그 시간 동안 재사용 (본문과 gzip 사본을 합쳐 micro-cache-max-bytes 까지)
+ * - 공유하는 응답은 gzip 본문을 한 번만 만들어 두고, gzip 을 받는 follower/캐시 응답에 그대로 쓴다
+ * - 인증/요청 제한 필터(AuthorizationHeaderFilter, RateLimitFilter)보다 뒤에서 실행된다
+ */
+@Component
+public class RequestCoalescingFilter implements GlobalFilter, Ordered {
+
+    // 응답 본문을 가로채려면 NettyWriteResponseFilter 보다 먼저 response 를 감싸야 한다
+    public static final int ORDER = NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+
+    // follower 에게 leader 의 값을 주면 안 되는 요청별 헤더
+    private static final List<String> PER_REQUEST_HEADERS = List.of(
+            RateLimitFilter.REMAINING_HEADER,
+            HttpHeaders.RETRY_AFTER,
+            HttpHeaders.SET_COOKIE,
+            HttpHeaders.DATE,
+            HttpHeaders.TRANSFER_ENCODING,
+            HttpHeaders.CONNECTION
+    );
+
+    private final List<PathPattern> patterns;
+    private final int maxBodySize;
+    private final Cache<String, SharedResponse> microCache;
+    private final ConcurrentHashMap<String, Sinks.One<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final ResponseCompression responseCompression;
+
+    private final Counter leaders;
+    private final Counter followers;
+    private final Counter cacheHits;
+    private final Counter fallbacks;
+    private final Counter gzipHits;
+    private final Counter gzipMisses;
+
+    public RequestCoalescingFilter(
+            MeterRegistry meterRegistry,
+            ResponseCompression responseCompression,
+            @Value("${gateway.coalescing.paths:}") List<String> paths,
+            @Value("${gateway.coalescing.max-body-size:1048576}") int maxBodySize,
+            @Value("${gateway.coalescing.micro-cache-ttl:0ms}") Duration microCacheTtl,
+            @Value("${gateway.coalescing.micro-cache-max-bytes:64MB}") DataSize microCacheMaxBytes
+    ) {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        this.patterns = paths.stream()
+                .filter(path -> !path.isBlank())
+                .map(path -> parser.parse(path.trim()))
+                .toList();
+        this.maxBodySize = maxBodySize;
+        this.responseCompression = responseCompression;
+        this.microCache = microCacheTtl.isZero() ? null : Caffeine.newBuilder()
+                .expireAfterWrite(microCacheTtl)
+                .maximumWeight(microCacheMaxBytes.toBytes())
+                .weigher((String key, SharedResponse shared) -> shared.weight())
+                .build();
+
+        this.leaders = meterRegistry.counter("gateway.coalescing.requests", "result", "leader");
+        this.followers = meterRegistry.counter("gateway.coalescing.requests", "result", "follower");
+        this.cacheHits = meterRegistry.counter("gateway.coalescing.requests", "result", "cache");
+        this.fallbacks = meterRegistry.counter("gateway.coalescing.requests", "result", "fallback");
+        // 미리 압축한 본문을 재사용(hit)했는지, 이번에 압축(miss)했는지
+        this.gzipHits = meterRegistry.counter("gateway.compression.precompressed", "result", "hit");
+        this.gzipMisses = meterRegistry.counter("gateway.compression.precompressed", "result", "miss");
+        // 대상 요청 중 업스트림을 호출하지 않고 응답한 비율
+        Gauge.builder("gateway.coalescing.ratio", this, RequestCoalescingFilter::coalescingRatio)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (patterns.isEmpty() || !isCoalescable(exchange)) {
+            return chain.filter(exchange);
+        }
+        // 구독 시점에 leader 를 정해야 구독되지 않은 Mono 가 자리를 차지하지 않는다
+        return Mono.defer(() -> coalesce(exchange, chain));
+    }
+
+    private Mono<Void> coalesce(ServerWebExchange exchange, GatewayFilterChain chain) {
+        URI uri = exchange.getRequest().getURI();
+        String key = uri.getRawQuery() == null ? uri.getRawPath() : uri.getRawPath() + "?" + uri.getRawQuery();
+
+        if (microCache != null) {
+            SharedResponse cached = microCache.getIfPresent(key);
+            if (cached != null) {
+                cacheHits.increment();
+                return write(exchange, cached);
+            }
+        }
+
+        Sinks.One<SharedResponse> sink = Sinks.one();
+        Sinks.One<SharedResponse> existing = inFlight.putIfAbsent(key, sink);
+        if (existing != null) {
+            return existing.asMono()
+                    .flatMap(shared -> {
+                        followers.increment();
+                        return write(exchange, shared);
+                    })
+                    // leader 응답을 공유할 수 없으면 직접 호출
+                    .switchIfEmpty(Mono.defer(() -> {
+                        fallbacks.increment();
+                        return chain.filter(exchange);
+                    }));
+        }
+
+        leaders.increment();
+        AtomicReference<SharedResponse> captured = new AtomicReference<>();
+        ServerHttpResponse response = new CapturingResponse(exchange.getResponse(), captured);
+
+        return chain.filter(exchange.mutate().response(response).build())
+                .doFinally(signal -> {
+                    inFlight.remove(key, sink);
+                    SharedResponse shared = captured.get();
+                    if (shared == null) {
+                        sink.tryEmitEmpty();
+                        return;
+                    }
+                    if (microCache != null) {
+                        microCache.put(key, shared);
+                    }
+                    sink.tryEmitValue(shared);
+                });
+    }
+
+    private boolean isCoalescable(ServerWebExchange exchange) {
+        if (exchange.getRequest().getMethod() != HttpMethod.GET) {
+            return false;
+        }
+        PathContainer path = exchange.getRequest().getPath().pathWithinApplication();
+        return patterns.stream().anyMatch(pattern -> pattern.matches(path));
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange, SharedResponse shared) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(shared.status());
+        response.getHeaders().putAll(shared.headers());
+
+        if (shared.compressible() && ResponseCompression.acceptsGzip(exchange.getRequest().getHeaders())) {
+            // Content-Encoding 이 있으면 Netty 는 다시 압축하지 않는다
+            byte[] gzipped = shared.gzipped(gzipHits, gzipMisses);
+            response.getHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+            response.getHeaders().setContentLength(gzipped.length);
+            response.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(gzipped)));
+        }
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(shared.body())));
+    }
+
+    private double coalescingRatio() {
+        double shared = followers.count() + cacheHits.count();
+        double total = shared + leaders.count() + fallbacks.count();
+        return total == 0 ? 0 : shared / total;
+    }
+
+    // 공유되는 응답. gzip 본문은 처음 필요할 때 한 번 만든다 (동시에 만들어지면 한쪽 결과가 남는다)
+    private static final class SharedResponse {
+
+        private final HttpStatusCode status;
+        private final HttpHeaders headers;
+        private final byte[] body;
+        private final boolean compressible;
+        private volatile byte[] gzipped;
+
+        private SharedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body, boolean compressible) {
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+            this.compressible = compressible;
+        }
+
+        private HttpStatusCode status() {
+            return status;
+        }
+
+        private HttpHeaders headers() {
+            return headers;
+        }
+
+        private byte[] body() {
+            return body;
+        }
+
+        private boolean compressible() {
+            return compressible;
+        }
+
+        // 캐시에 넣을 때 한 번만 계산되므로, 나중에 만들 gzip 사본 몫(JSON 은 원본보다 작다)까지 미리 잡아 둔다
+        private int weight() {
+            return compressible ? body.length * 2 : body.length;
+        }
+
+        private byte[] gzipped(Counter hits, Counter misses) {
+            byte[] result = gzipped;
+            if (result != null) {
+                hits.increment();
+                return result;
+            }
+            misses.increment();
+            result = ResponseCompression.gzip(body);
+            gzipped = result;
+            return result;
+        }
+    }
+
+    // leader 의 응답을 클라이언트로 내보내면서 공유 가능한 경우 사본을 남긴다
+    private class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private final AtomicReference<SharedResponse> captured;
+
+        private CapturingResponse(ServerHttpResponse delegate, AtomicReference<SharedResponse> captured) {
+            super(delegate);
+            this.captured = captured;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpStatusCode status = getStatusCode();
+            // 업스트림이 이미 인코딩한 본문은 Accept-Encoding 이 다른 follower 에게 줄 수 없다
+            if (status == null || !status.is2xxSuccessful() || getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)) {
+                return super.writeWith(body);
+            }
+
+            // 본문 크기를 미리 알고 한도를 넘으면 사본을 만들지 않는다
+            if (getHeaders().getContentLength() > maxBodySize) {
+                return super.writeWith(body);
+            }
+
+            // 본문을 그대로 내보내면서 max-body-size 까지만 사본을 모은다. 넘으면 사본을 버리고 공유하지 않는다
+            AtomicReference<ByteArrayOutputStream> copy = new AtomicReference<>(new ByteArrayOutputStream());
+            Flux<DataBuffer> copying = Flux.from(body)
+                    .doOnNext(buffer -> {
+                        ByteArrayOutputStream out = copy.get();
+                        if (out == null) {
+                            return;
+                        }
+                        int length = buffer.readableByteCount();
+                        if (out.size() + length > maxBodySize) {
+                            copy.set(null);
+                            return;
+                        }
+                        byte[] chunk = new byte[length];
+                        int position = buffer.readPosition();
+                        buffer.read(chunk);
+                        buffer.readPosition(position);
+                        out.writeBytes(chunk);
+                    })
+                    .doOnComplete(() -> {
+                        ByteArrayOutputStream out = copy.get();
+                        if (out == null) {
+                            return;
+                        }
+                        byte[] bytes = out.toByteArray();
+                        HttpHeaders headers = new HttpHeaders();
+                        headers.putAll(getHeaders());
+                        PER_REQUEST_HEADERS.forEach(headers::remove);
+                        headers.setContentLength(bytes.length);
+                        boolean compressible = responseCompression.isCompressible(headers, bytes.length);
+                        captured.set(new SharedResponse(status, headers, bytes, compressible));
+                    });
+            return super.writeWith(copying);
+        }
+    }
+}
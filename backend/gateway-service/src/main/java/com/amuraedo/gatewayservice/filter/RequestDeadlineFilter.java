@@ -0,0 +1,68 @@
+package com.amuraedo.gatewayservice.filter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 다운스트림 서비스에 요청 마감 시각(X-Request-Deadline, epoch ms)을 넘긴다.
+ * 마감 시각은 요청이 게이트웨이에 들어온 시점 + 라우트 제한 시간이다.
+ * 서비스는 이 값으로 Feign 호출과 DB 쿼리의 제한 시간을 줄이고, 이미 지난 요청은 바로 포기한다.
+ *
+ * - 제한 시간은 라우트 metadata 의 response-timeout(ms), 없으면 httpclient.response-timeout
+ * - 클라이언트가 보낸 값은 믿지 않고 항상 덮어쓴다
+ */
+@Component
+public class RequestDeadlineFilter implements GlobalFilter, Ordered {
+
+    public static final String DEADLINE_HEADER = "X-Request-Deadline";
+
+    // 요청 도착 시각 기준이어야 하므로 지연 시간 측정 바로 다음에 실행한다
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 1;
+
+    private static final String RESPONSE_TIMEOUT_METADATA = "response-timeout";
+
+    private final Duration defaultTimeout;
+
+    public RequestDeadlineFilter(
+            @Value("${spring.cloud.gateway.server.webflux.httpclient.response-timeout:10s}") Duration defaultTimeout
+    ) {
+        this.defaultTimeout = defaultTimeout;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        long deadline = System.currentTimeMillis() + responseTimeout(route).toMillis();
+
+        ServerHttpRequest request = exchange.getRequest().mutate()
+                .headers(headers -> headers.set(DEADLINE_HEADER, String.valueOf(deadline)))
+                .build();
+        return chain.filter(exchange.mutate().request(request).build());
+    }
+
+    private Duration responseTimeout(Route route) {
+        Object value = route != null ? route.getMetadata().get(RESPONSE_TIMEOUT_METADATA) : null;
+        if (value instanceof Number number) {
+            return Duration.ofMillis(number.longValue());
+        }
+        if (value instanceof String text && !text.isBlank()) {
+            return Duration.ofMillis(Long.parseLong(text.trim()));
+        }
+        return defaultTimeout;
+    }
+}
@@ -0,0 +1,35 @@
+package com.amuraedo.gatewayservice.filter;
+
+import com.amuraedo.gatewayservice.metrics.LatencyMetrics;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 게이트웨이 전체 처리 시간(gateway.request)을 기록한다.
+ * 가장 먼저 실행되므로 인증, 요청 제한, 다운스트림 호출, 응답 쓰기가 모두 포함된다.
+ */
+@Component
+public class RequestLatencyFilter implements GlobalFilter, Ordered {
+
+    private final LatencyMetrics latencyMetrics;
+
+    public RequestLatencyFilter(LatencyMetrics latencyMetrics) {
+        this.latencyMetrics = latencyMetrics;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signal -> latencyMetrics.recordRequest(exchange, System.nanoTime() - start));
+    }
+}
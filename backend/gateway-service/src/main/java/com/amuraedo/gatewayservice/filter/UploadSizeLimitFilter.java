@@ -0,0 +1,126 @@
+package com.amuraedo.gatewayservice.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * multipart 업로드(피드/식단 이미지)의 크기 제한 필터.
+ * 본문은 모으지 않고 받은 DataBuffer 를 그대로 다운스트림으로 흘려보내며(백프레셔 유지), 지나간 바이트 수만 센다.
+ *
+ * - Content-Length 가 max-size 를 넘으면 본문을 읽기 전에 413
+ * - Content-Length 가 없거나(chunked) 실제 본문이 더 길면, 넘는 순간 스트림을 끊고 413
+ * - 지표: gateway.upload.rejected (reason=content-length|streaming)
+ */
+@Component
+public class UploadSizeLimitFilter implements GlobalFilter, Ordered {
+
+    // 요청 제한까지 통과한 요청만 검사한다 (본문을 읽지 않으므로 순서는 크게 상관없다)
+    public static final int ORDER = RateLimitFilter.ORDER + 1;
+
+    private final long maxSize;
+    private final Counter rejectedByContentLength;
+    private final Counter rejectedWhileStreaming;
+
+    public UploadSizeLimitFilter(
+            MeterRegistry meterRegistry,
+            @Value("${gateway.upload.max-size:10MB}") DataSize maxSize
+    ) {
+        this.maxSize = maxSize.toBytes();
+        this.rejectedByContentLength = meterRegistry.counter("gateway.upload.rejected", "reason", "content-length");
+        this.rejectedWhileStreaming = meterRegistry.counter("gateway.upload.rejected", "reason", "streaming");
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        MediaType contentType = request.getHeaders().getContentType();
+        if (contentType == null || !MediaType.MULTIPART_FORM_DATA.isCompatibleWith(contentType)) {
+            return chain.filter(exchange);
+        }
+
+        long contentLength = request.getHeaders().getContentLength();
+        if (contentLength > maxSize) {
+            rejectedByContentLength.increment();
+            return reject(exchange.getResponse());
+        }
+
+        ServerHttpRequest limited = new SizeLimitedRequest(request, maxSize);
+        return chain.filter(exchange.mutate().request(limited).build())
+                .onErrorResume(UploadTooLargeException::causedBy, e -> {
+                    rejectedWhileStreaming.increment();
+                    ServerHttpResponse response = exchange.getResponse();
+                    // 다운스트림 응답이 이미 나가기 시작했으면 연결을 끊는 것 말고는 할 수 있는 게 없다
+                    return response.isCommitted() ? Mono.error(e) : reject(response);
+                });
+    }
+
+    private Mono<Void> reject(ServerHttpResponse response) {
+        response.setStatusCode(HttpStatus.PAYLOAD_TOO_LARGE);
+        return response.setComplete();
+    }
+
+    // 본문을 한 번 구독할 때마다 처음부터 센다
+    private static class SizeLimitedRequest extends ServerHttpRequestDecorator {
+
+        private final long maxSize;
+
+        private SizeLimitedRequest(ServerHttpRequest delegate, long maxSize) {
+            super(delegate);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public Flux<DataBuffer> getBody() {
+            return Flux.defer(() -> {
+                long[] received = {0};
+                return super.getBody().handle((buffer, sink) -> {
+                    received[0] += buffer.readableByteCount();
+                    if (received[0] > maxSize) {
+                        DataBufferUtils.release(buffer);
+                        sink.error(new UploadTooLargeException(maxSize));
+                        return;
+                    }
+                    sink.next(buffer);
+                });
+            });
+        }
+    }
+
+    static class UploadTooLargeException extends RuntimeException {
+
+        UploadTooLargeException(long maxSize) {
+            super("Upload exceeds " + maxSize + " bytes", null, false, false);
+        }
+
+        // 라우팅 필터가 감싸서 던지는 경우가 있어 원인까지 확인한다
+        static boolean causedBy(Throwable e) {
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof UploadTooLargeException) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
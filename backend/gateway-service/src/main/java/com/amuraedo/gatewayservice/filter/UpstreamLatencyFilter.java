@@ -0,0 +1,36 @@
+package com.amuraedo.gatewayservice.filter;
+
+import com.amuraedo.gatewayservice.metrics.LatencyMetrics;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 다운스트림 호출 시간(gateway.upstream)을 기록한다.
+ * NettyRoutingFilter 바로 앞에서 실행되므로 로드밸런서가 인스턴스를 고른 뒤부터
+ * 다운스트림의 응답 헤더를 받을 때까지의 시간이 된다.
+ */
+@Component
+public class UpstreamLatencyFilter implements GlobalFilter, Ordered {
+
+    private final LatencyMetrics latencyMetrics;
+
+    public UpstreamLatencyFilter(LatencyMetrics latencyMetrics) {
+        this.latencyMetrics = latencyMetrics;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE - 1;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signal -> latencyMetrics.recordUpstream(exchange, System.nanoTime() - start));
+    }
+}
@@ -0,0 +1,73 @@
+package com.amuraedo.gatewayservice.limiter;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게이트웨이 인스턴스 로컬 토큰 버킷.
+ * 버킷 갱신은 키 해시로 고른 락 스트라이프 안에서만 일어나므로
+ * 서로 다른 사용자의 요청끼리는 거의 경합하지 않는다.
+ */
+public class LocalTokenBuckets {
+
+    private static final int STRIPES = 64;
+
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Object[] locks = new Object[STRIPES];
+
+    public LocalTokenBuckets() {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    public RateLimitResult tryAcquire(String key, double replenishRate, long burstCapacity, int requestedTokens) {
+        long now = System.nanoTime();
+        Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket(burstCapacity, replenishRate, now));
+
+        synchronized (locks[(key.hashCode() & 0x7fffffff) % STRIPES]) {
+            bucket.refill(now, replenishRate, burstCapacity);
+
+            if (bucket.tokens >= requestedTokens) {
+                bucket.tokens -= requestedTokens;
+                return new RateLimitResult(true, (long) bucket.tokens, 0);
+            }
+
+            long retryAfterMillis = (long) Math.ceil((requestedTokens - bucket.tokens) * 1000 / replenishRate);
+            return new RateLimitResult(false, (long) bucket.tokens, retryAfterMillis);
+        }
+    }
+
+    // 다시 가득 찰 만큼 오래 쓰이지 않은 버킷은 지워도 결과가 같으므로 정리한다
+    public void evictIdle() {
+        long now = System.nanoTime();
+        buckets.entrySet().removeIf(entry -> now - entry.getValue().lastRefillNanos >= entry.getValue().fullAfterNanos);
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private volatile long lastRefillNanos;
+        private volatile long fullAfterNanos;
+
+        // 만들자마자 정리 대상이 되지 않도록 가득 차는 시간을 생성할 때 정한다
+        private Bucket(long burstCapacity, double replenishRate, long now) {
+            this.tokens = burstCapacity;
+            this.lastRefillNanos = now;
+            this.fullAfterNanos = fullAfterNanos(burstCapacity, replenishRate);
+        }
+
+        private void refill(long now, double replenishRate, long burstCapacity) {
+            long elapsed = Math.max(0, now - lastRefillNanos);
+            tokens = Math.min(burstCapacity, tokens + elapsed * replenishRate / 1_000_000_000d);
+            lastRefillNanos = now;
+            fullAfterNanos = fullAfterNanos(burstCapacity, replenishRate);
+        }
+
+        private static long fullAfterNanos(long burstCapacity, double replenishRate) {
+            return (long) (burstCapacity / replenishRate * 1_000_000_000d);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.amuraedo.gatewayservice.limiter;
+
+public record RateLimitResult(
+        boolean allowed,
+        long remaining,        // 남은 토큰 수
+        long retryAfterMillis  // 거절된 경우 다음 요청이 가능해질 때까지 남은 시간
+) {
+}
@@ -0,0 +1,78 @@
+package com.amuraedo.gatewayservice.limiter;
+
+import com.amuraedo.gatewayservice.util.RedisKeyUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 한 건에 대해 토큰 버킷에서 토큰을 꺼낼 수 있는지 판단한다.
+ * gateway.rate-limit.mode=redis 면 모든 게이트웨이 인스턴스가 Redis 의 버킷을 공유하고,
+ * Redis 호출이 실패하면 해당 요청은 로컬 버킷으로 판단한다.
+ */
+@Slf4j
+@Component
+public class TokenBucketRateLimiter {
+
+    private final LocalTokenBuckets localBuckets = new LocalTokenBuckets();
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final RedisScript<List> script;
+    private final boolean redisMode;
+    private final Counter redisFallbacks;
+
+    public TokenBucketRateLimiter(
+            ReactiveStringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${gateway.rate-limit.mode:local}") String mode
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.script = RedisScript.of(new ClassPathResource("scripts/token_bucket.lua"), List.class);
+        this.redisMode = "redis".equalsIgnoreCase(mode);
+        this.redisFallbacks = meterRegistry.counter("gateway.ratelimit.redis.fallback");
+        Gauge.builder("gateway.ratelimit.local.buckets", localBuckets, LocalTokenBuckets::size)
+                .register(meterRegistry);
+    }
+
+    public Mono<RateLimitResult> tryAcquire(String bucketKey, double replenishRate, long burstCapacity, int requestedTokens) {
+        if (!redisMode) {
+            return Mono.just(localBuckets.tryAcquire(bucketKey, replenishRate, burstCapacity, requestedTokens));
+        }
+
+        List<String> keys = List.of(RedisKeyUtil.getRateLimitKey(bucketKey));
+        List<String> args = List.of(
+                String.valueOf(replenishRate),
+                String.valueOf(burstCapacity),
+                String.valueOf(requestedTokens)
+        );
+
+        return redisTemplate.execute(script, keys, args)
+                .reduce(new ArrayList<Long>(), (results, values) -> {
+                    for (Object value : values) {
+                        results.add((Long) value);
+                    }
+                    return results;
+                })
+                .map(results -> new RateLimitResult(results.get(0) == 1L, results.get(1), results.get(2)))
+                .onErrorResume(e -> {
+                    redisFallbacks.increment();
+                    log.debug("Redis rate limiter unavailable, using local bucket: {}", e.getMessage());
+                    return Mono.just(localBuckets.tryAcquire(bucketKey, replenishRate, burstCapacity, requestedTokens));
+                });
+    }
+
+    @Scheduled(fixedDelayString = "${gateway.rate-limit.eviction-interval:60000}")
+    public void evictIdleBuckets() {
+        localBuckets.evictIdle();
+    }
+}
@@ -0,0 +1,95 @@
+package com.amuraedo.gatewayservice.limiter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 측정한 응답 시간에 따라 움직이는 동시 요청 한도 (TCP Vegas 방식).
+ * 부하가 없을 때의 최소 응답 시간(rttNoLoad)과 현재 응답 시간을 비교해
+ * 다운스트림에 쌓인 대기열 크기를 추정하고, 대기열이 작으면 한도를 늘리고 크면 줄인다.
+ */
+public class VegasLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long probeIntervalNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private long rttNoLoadNanos;
+    private long lastProbeNanos;
+
+    public VegasLimit(int initialLimit, int minLimit, int maxLimit, long probeIntervalNanos) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.probeIntervalNanos = probeIntervalNanos;
+        this.lastProbeNanos = System.nanoTime();
+    }
+
+    // share: 이 요청이 쓸 수 있는 한도 비율 (우선순위가 낮은 요청은 1 보다 작게 줘서 여유분을 남긴다)
+    public boolean tryAcquire(double share) {
+        int allowed = Math.max(1, (int) (limit * share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // 응답 없이 끝난 요청(취소 등)은 한도 계산에 쓰지 않는다
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public synchronized void release(long rttNanos, boolean dropped) {
+        int pending = inFlight.getAndDecrement();
+        double current = limit;
+        double log = Math.max(1, Math.log10(current));
+
+        // 실패(타임아웃, 빠른 5xx)는 응답 시간과 무관하게 한도만 줄인다. 기준 응답 시간에는 쓰지 않는다
+        if (dropped) {
+            limit = Math.max(minLimit, current - log);
+            return;
+        }
+
+        long now = System.nanoTime();
+        // 다운스트림 상태가 바뀌었을 수 있으므로 기준 응답 시간을 주기적으로 다시 잰다
+        if (now - lastProbeNanos > probeIntervalNanos) {
+            rttNoLoadNanos = 0;
+            lastProbeNanos = now;
+        }
+        if (rttNoLoadNanos == 0 || rttNanos < rttNoLoadNanos) {
+            rttNoLoadNanos = Math.max(1, rttNanos);
+            return;
+        }
+
+        // 한도의 절반도 쓰지 않는 동안에는 늘릴 근거가 없다
+        if (pending * 2 < current) {
+            return;
+        }
+        double queueSize = Math.ceil(current * (1 - (double) rttNoLoadNanos / rttNanos));
+        double next;
+        if (queueSize <= log) {
+            next = current + 6 * log;
+        } else if (queueSize < 3 * log) {
+            next = current + log;
+        } else if (queueSize > 6 * log) {
+            next = current - log;
+        } else {
+            return;
+        }
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
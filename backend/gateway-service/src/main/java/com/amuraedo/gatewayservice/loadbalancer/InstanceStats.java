@@ -0,0 +1,78 @@
+package com.amuraedo.gatewayservice.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인스턴스 하나의 peak-EWMA 응답 시간과 처리 중인 요청 수.
+ * 느린 응답은 즉시 반영(peak)하고, 빠른 응답은 decayTime 에 걸쳐 천천히 반영한다.
+ */
+public class InstanceStats {
+
+    private final long decayNanos;
+    private final long penaltyNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private double ewmaNanos;
+    private long lastUpdateNanos;
+
+    public InstanceStats(long decayNanos, long penaltyNanos) {
+        this.decayNanos = decayNanos;
+        this.penaltyNanos = penaltyNanos;
+        this.lastUpdateNanos = System.nanoTime();
+    }
+
+    public void start() {
+        inFlight.incrementAndGet();
+    }
+
+    public void complete(long rttNanos) {
+        inFlight.decrementAndGet();
+        observe(rttNanos);
+    }
+
+    // 응답 없이 끝난 요청(클라이언트 연결 끊김, 동시 요청 제한/타임아웃에 의한 취소)은 응답 시간에 반영하지 않는다
+    public void cancel() {
+        inFlight.decrementAndGet();
+    }
+
+    // 실패한 요청은 penalty 만큼 느린 응답으로 취급해 트래픽이 빠지게 한다
+    public void fail() {
+        inFlight.decrementAndGet();
+        observe(penaltyNanos);
+    }
+
+    // 낮을수록 좋은 인스턴스
+    public synchronized double cost() {
+        int pending = inFlight.get();
+        double ewma = decayed(System.nanoTime());
+        // 아직 응답이 한 번도 없는데 요청이 몰려 있는 새 인스턴스에 더 보내지 않도록
+        if (ewma == 0 && pending > 0) {
+            return penaltyNanos + pending;
+        }
+        return ewma * (pending + 1);
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public synchronized long idleNanos(long now) {
+        return now - lastUpdateNanos;
+    }
+
+    private synchronized void observe(long rttNanos) {
+        long now = System.nanoTime();
+        double w = weight(now);
+        ewmaNanos = rttNanos > ewmaNanos ? rttNanos : ewmaNanos * w + rttNanos * (1 - w);
+        lastUpdateNanos = now;
+    }
+
+    // 응답이 없는 동안에도 지난 값의 영향은 시간에 따라 줄어든다
+    private double decayed(long now) {
+        return ewmaNanos * weight(now);
+    }
+
+    private double weight(long now) {
+        return Math.exp(-(double) Math.max(0, now - lastUpdateNanos) / decayNanos);
+    }
+}
@@ -0,0 +1,45 @@
+package com.amuraedo.gatewayservice.loadbalancer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게이트웨이가 호출한 인스턴스별 InstanceStats 보관소.
+ * 서비스들이 재시작할 때마다 instance-id 가 바뀌므로 오래 쓰이지 않은 항목은 주기적으로 정리한다.
+ */
+@Component
+public class InstanceStatsRegistry {
+
+    private static final long IDLE_EVICT_NANOS = Duration.ofMinutes(10).toNanos();
+
+    private final ConcurrentHashMap<String, InstanceStats> stats = new ConcurrentHashMap<>();
+    private final long decayNanos;
+    private final long penaltyNanos;
+
+    public InstanceStatsRegistry(
+            @Value("${gateway.loadbalancer.decay-time:10s}") Duration decayTime,
+            @Value("${gateway.loadbalancer.failure-penalty:5s}") Duration failurePenalty
+    ) {
+        this.decayNanos = decayTime.toNanos();
+        this.penaltyNanos = failurePenalty.toNanos();
+    }
+
+    public InstanceStats get(ServiceInstance instance) {
+        return stats.computeIfAbsent(key(instance), k -> new InstanceStats(decayNanos, penaltyNanos));
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdle() {
+        long now = System.nanoTime();
+        stats.values().removeIf(s -> s.inFlight() == 0 && s.idleNanos(now) > IDLE_EVICT_NANOS);
+    }
+
+    private static String key(ServiceInstance instance) {
+        return instance.getServiceId() + "/" + instance.getHost() + ":" + instance.getPort();
+    }
+}
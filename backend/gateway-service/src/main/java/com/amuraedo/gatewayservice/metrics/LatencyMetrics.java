@@ -0,0 +1,74 @@
+package com.amuraedo.gatewayservice.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게이트웨이 지연 시간 분포 지표.
+ * 모든 타이머는 p50/p99/p999 를 HdrHistogram 기반 슬라이딩 윈도우로 계산해
+ * /actuator/metrics/{name}?tag=... 로 조회할 수 있다.
+ *
+ * - gateway.request  : 게이트웨이 진입부터 응답 완료까지 (route, status)
+ * - gateway.upstream : 다운스트림 호출부터 응답 헤더 수신까지 (route, status)
+ * - gateway.auth     : 인증 필터 단계별 소요 시간 (phase=jwt|blacklist, outcome)
+ *
+ * 인스턴스(server.port: 0 이라 재배포마다 바뀐다)는 태그로 쓰지 않는다. 인스턴스별 상태는 InstanceStatsRegistry 가 본다
+ */
+@Component
+public class LatencyMetrics {
+
+    private static final double[] PERCENTILES = {0.5, 0.99, 0.999};
+    // 최근 1분(5개 버퍼 회전) 동안의 분포로 백분위를 계산한다
+    private static final Duration EXPIRY = Duration.ofMinutes(1);
+
+    private final MeterRegistry meterRegistry;
+
+    public LatencyMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void recordRequest(ServerWebExchange exchange, long elapsedNanos) {
+        timer("gateway.request", "route", routeId(exchange), "status", statusClass(exchange.getResponse().getStatusCode()))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordUpstream(ServerWebExchange exchange, long elapsedNanos) {
+        recordUpstream(routeId(exchange), exchange.getResponse().getStatusCode(), elapsedNanos);
+    }
+
+    // 게이트웨이 라우팅을 거치지 않고 직접 호출하는 경로(HedgingFilter)용
+    public void recordUpstream(String routeId, HttpStatusCode status, long elapsedNanos) {
+        timer("gateway.upstream", "route", routeId, "status", statusClass(status))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordAuth(String phase, String outcome, long elapsedNanos) {
+        timer("gateway.auth", "phase", phase, "outcome", outcome)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(String name, String... tags) {
+        return Timer.builder(name)
+                .tags(tags)
+                .publishPercentiles(PERCENTILES)
+                .distributionStatisticExpiry(EXPIRY)
+                .register(meterRegistry);
+    }
+
+    public static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "none";
+    }
+
+    private static String statusClass(HttpStatusCode status) {
+        return status != null ? (status.value() / 100) + "xx" : "none";
+    }
+}
@@ -0,0 +1,98 @@
+package com.amuraedo.gatewayservice.service;
+
+import com.amuraedo.gatewayservice.dto.DashboardResponse;
+import com.amuraedo.gatewayservice.filter.RequestDeadlineFilter;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대시보드 화면에 필요한 5개 서비스 응답을 동시에 요청해 하나로 합친다.
+ * 각 호출은 leg-timeout 안에 끝나지 않거나 실패하면 null 로 두고 나머지 결과만으로 응답한다.
+ */
+@Slf4j
+@Service
+public class DashboardService {
+
+    private final WebClient webClient;
+    private final MeterRegistry meterRegistry;
+    private final Duration legTimeout;
+
+    @Value("${internal.secret-key}")
+    private String internalSecretKey;
+
+    public DashboardService(
+            WebClient dashboardWebClient,
+            MeterRegistry meterRegistry,
+            @Value("${gateway.dashboard.leg-timeout:2s}") Duration legTimeout
+    ) {
+        this.webClient = dashboardWebClient;
+        this.meterRegistry = meterRegistry;
+        this.legTimeout = legTimeout;
+    }
+
+    public Mono<DashboardResponse> getDashboard(String userId, String role, LocalDate date) {
+        return Mono.zip(
+                leg("userStats", "lb://stats-service/stats/user-stats", BodyShape.API_RESPONSE, userId, role),
+                leg("reports", "lb://report-service/report/all-report", BodyShape.API_RESPONSE, userId, role),
+                leg("unreadNotifications", "lb://notification-service/notification/unread", BodyShape.RAW, userId, role),
+                leg("workoutPlans", "lb://workoutplan-service/workout?date=" + date, BodyShape.RAW, userId, role),
+                leg("dietPlans", "lb://dietplan-service/dietplan/search/date?date=" + date, BodyShape.RAW, userId, role)
+        ).map(legs -> {
+            List<String> failed = new ArrayList<>();
+            for (Object leg : legs.toList()) {
+                LegResult result = (LegResult) leg;
+                if (result.failed()) {
+                    failed.add(result.name());
+                }
+            }
+            return new DashboardResponse(
+                    legs.getT1().data(),
+                    legs.getT2().data(),
+                    legs.getT3().data(),
+                    legs.getT4().data(),
+                    legs.getT5().data(),
+                    failed
+            );
+        });
+    }
+
+    // ApiResponse 로 감싸는 서비스는 data 만, 목록을 그대로 돌려주는 서비스는 본문 전체를 쓴다. 204 처럼 본문이 없으면 data 는 null
+    private Mono<LegResult> leg(String name, String uri, BodyShape shape, String userId, String role) {
+        return webClient.get()
+                .uri(uri)
+                .header("X-User-Id", userId)
+                .header("X-User-Role", role)
+                .header("X-Internal-Secret", internalSecretKey)
+                // 서비스도 leg-timeout 이 지나면 작업을 그만두도록 마감 시각을 함께 보낸다
+                .header(RequestDeadlineFilter.DEADLINE_HEADER, String.valueOf(System.currentTimeMillis() + legTimeout.toMillis()))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .map(body -> new LegResult(name, shape == BodyShape.API_RESPONSE ? body.get("data") : body, false))
+                .defaultIfEmpty(new LegResult(name, null, false))
+                .timeout(legTimeout)
+                .onErrorResume(e -> {
+                    meterRegistry.counter("gateway.dashboard.leg.failed", "leg", name).increment();
+                    log.warn("Dashboard leg {} failed: {}", name, e.toString());
+                    return Mono.just(new LegResult(name, null, true));
+                });
+    }
+
+    // 서비스별 응답 본문 형태
+    enum BodyShape {
+        API_RESPONSE,
+        RAW
+    }
+
+    private record LegResult(String name, JsonNode data, boolean failed) {
+    }
+}
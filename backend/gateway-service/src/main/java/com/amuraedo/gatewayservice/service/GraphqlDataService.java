@@ -0,0 +1,113 @@
+package com.amuraedo.gatewayservice.service;
+
+import com.amuraedo.gatewayservice.dto.AnswerDTO;
+import com.amuraedo.gatewayservice.dto.ApiResponse;
+import com.amuraedo.gatewayservice.dto.FeedDTO;
+import com.amuraedo.gatewayservice.dto.GraphqlCaller;
+import com.amuraedo.gatewayservice.dto.QuestionDTO;
+import com.amuraedo.gatewayservice.dto.ReportDTO;
+import com.amuraedo.gatewayservice.dto.StatsDTO;
+import com.amuraedo.gatewayservice.filter.RequestDeadlineFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * GraphQL 리졸버가 쓰는 서비스 REST API 호출.
+ * 게이트웨이 라우트를 거치지 않고 lb:// 로 직접 호출하므로, 인증 필터가 넣어주던 헤더를 여기서 붙인다.
+ */
+@Service
+public class GraphqlDataService {
+
+    private static final ParameterizedTypeReference<ApiResponse<List<QuestionDTO>>> QUESTIONS = new ParameterizedTypeReference<>() { };
+    private static final ParameterizedTypeReference<ApiResponse<QuestionDTO>> QUESTION = new ParameterizedTypeReference<>() { };
+    private static final ParameterizedTypeReference<ApiResponse<List<AnswerDTO>>> ANSWERS = new ParameterizedTypeReference<>() { };
+    private static final ParameterizedTypeReference<ApiResponse<List<FeedDTO>>> FEEDS = new ParameterizedTypeReference<>() { };
+    private static final ParameterizedTypeReference<ApiResponse<List<ReportDTO>>> REPORTS = new ParameterizedTypeReference<>() { };
+    private static final ParameterizedTypeReference<ApiResponse<List<StatsDTO>>> STATS = new ParameterizedTypeReference<>() { };
+
+    private final WebClient webClient;
+    private final Duration callTimeout;
+
+    @Value("${internal.secret-key}")
+    private String internalSecretKey;
+
+    public GraphqlDataService(
+            WebClient graphqlWebClient,
+            @Value("${gateway.graphql.call-timeout:2s}") Duration callTimeout
+    ) {
+        this.webClient = graphqlWebClient;
+        this.callTimeout = callTimeout;
+    }
+
+    public Mono<List<QuestionDTO>> getAllQuestions(GraphqlCaller caller) {
+        return getList(caller, QUESTIONS, "lb://qna-service/question/search/all");
+    }
+
+    public Mono<List<QuestionDTO>> searchQuestions(GraphqlCaller caller, String keyword) {
+        return getList(caller, QUESTIONS, "lb://qna-service/question/search?keyword={keyword}", keyword);
+    }
+
+    public Mono<List<QuestionDTO>> getMyQuestions(GraphqlCaller caller) {
+        return getList(caller, QUESTIONS, "lb://qna-service/question/search/myQuestion");
+    }
+
+    public Mono<QuestionDTO> getQuestion(GraphqlCaller caller, Long questionId) {
+        return get(caller, QUESTION, "lb://qna-service/question/{questionId}", questionId);
+    }
+
+    // 여러 질문의 답변을 한 번에 가져온다 (questionIds 는 DataLoader 가 모은 한 배치)
+    public Mono<List<AnswerDTO>> getAnswers(GraphqlCaller caller, Collection<Long> questionIds) {
+        String ids = questionIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        return getList(caller, ANSWERS, "lb://qna-service/answer/batch?questionIds={ids}", ids);
+    }
+
+    public Mono<List<FeedDTO>> getMyFeeds(GraphqlCaller caller) {
+        return getList(caller, FEEDS, "lb://feed-service/feed/search/user");
+    }
+
+    public Mono<List<FeedDTO>> searchFeeds(GraphqlCaller caller, String feedTitle) {
+        return getList(caller, FEEDS, "lb://feed-service/feed/search/title?feedTitle={feedTitle}", feedTitle);
+    }
+
+    public Mono<List<ReportDTO>> getMyReports(GraphqlCaller caller) {
+        return getList(caller, REPORTS, "lb://report-service/report/all-report");
+    }
+
+    public Mono<List<StatsDTO>> getMyStats(GraphqlCaller caller) {
+        return getList(caller, STATS, "lb://stats-service/stats/user-stats");
+    }
+
+    // 204 처럼 본문이 없거나 data 가 null 이면 빈 목록
+    private <T> Mono<List<T>> getList(GraphqlCaller caller, ParameterizedTypeReference<ApiResponse<List<T>>> type,
+                                      String uri, Object... uriVariables) {
+        return get(caller, type, uri, uriVariables).defaultIfEmpty(List.of());
+    }
+
+    private <T> Mono<T> get(GraphqlCaller caller, ParameterizedTypeReference<ApiResponse<T>> type,
+                            String uri, Object... uriVariables) {
+        return webClient.get()
+                .uri(uri, uriVariables)
+                .headers(headers -> {
+                    headers.set("X-User-Id", caller.userId());
+                    if (caller.role() != null) {
+                        headers.set("X-User-Role", caller.role());
+                    }
+                    headers.set("X-Internal-Secret", internalSecretKey);
+                    if (caller.deadline() != null) {
+                        headers.set(RequestDeadlineFilter.DEADLINE_HEADER, caller.deadline());
+                    }
+                })
+                .retrieve()
+                .bodyToMono(type)
+                .mapNotNull(ApiResponse::data)
+                .timeout(callTimeout);
+    }
+}
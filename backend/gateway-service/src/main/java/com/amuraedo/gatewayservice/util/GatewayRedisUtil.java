@@ -1,17 +1,48 @@
 package com.amuraedo.gatewayservice.util;
 
-import lombok.RequiredArgsConstructor;
+import com.amuraedo.gatewayservice.cache.BlacklistNearCache;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
 @Component
-@RequiredArgsConstructor
 public class GatewayRedisUtil {
     private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+    private final BlacklistNearCache blacklistNearCache;
+    private final boolean legacyKeysEnabled;
 
-    public Mono<Boolean> hasBlackList(String token) {
-        String key = RedisKeyUtil.getBalckListKey(token);
+    public GatewayRedisUtil(
+            ReactiveStringRedisTemplate reactiveRedisTemplate,
+            BlacklistNearCache blacklistNearCache,
+            // 토큰 원문을 키로 쓰던 이전 블랙리스트 키 확인 여부 (jwt.expiration 이 지나면 false 로)
+            @Value("${gateway.blacklist.legacy-keys:true}") boolean legacyKeysEnabled
+    ) {
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.blacklistNearCache = blacklistNearCache;
+        this.legacyKeysEnabled = legacyKeysEnabled;
+    }
+
+    public Mono<Boolean> hasBlackList(String token, String tokenId) {
+        if (tokenId != null) {
+            return exists(RedisKeyUtil.getBalckListKey(tokenId));
+        }
+
+        // jti 가 없는 이전 토큰: 다이제스트 키, 그리고 마이그레이션 기간에는 토큰 원문 키까지 확인
+        Mono<Boolean> digestKey = exists(RedisKeyUtil.getBalckListKey(TokenDigest.of(token)));
+        if (!legacyKeysEnabled) {
+            return digestKey;
+        }
+        return digestKey.flatMap(found -> found
+                ? Mono.just(true)
+                : exists(RedisKeyUtil.getBalckListKey(token)));
+    }
+
+    private Mono<Boolean> exists(String key) {
+        // 니어 캐시에 확실히 없는 키면 Redis 왕복을 생략
+        if (!blacklistNearCache.mightContain(key)) {
+            return Mono.just(false);
+        }
         return reactiveRedisTemplate.hasKey(key);
     }
 }
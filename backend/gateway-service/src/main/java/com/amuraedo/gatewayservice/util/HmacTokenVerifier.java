@@ -0,0 +1,298 @@
+package com.amuraedo.gatewayservice.util;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * member-service 가 발급하는 고정된 형태의 토큰 전용 검증기.
+ * 헤더가 {"alg":"HS256"} (키 길이에 따라 HS384/HS512) 하나뿐이고 페이로드가 sub/role/jti/iat/exp 로만 된
+ * 평평한 JSON 이라는 점을 이용해, 스레드마다 재사용하는 Mac 과 버퍼로 서명을 확인하고 필요한 클레임만 꺼낸다.
+ *
+ * 정상 토큰만 이 경로로 통과시키고, 형태가 다르거나 서명/만료 검사에 실패하면 null 을 돌려준다.
+ * 호출하는 쪽(JwtUtil)은 null 이면 jjwt 로 다시 검증해 거절 사유를 판단한다.
+ */
+public class HmacTokenVerifier {
+
+    private static final int MAX_TOKEN_LENGTH = 4096;
+    private static final int[] BASE64URL = new int[128];
+
+    static {
+        Arrays.fill(BASE64URL, -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64URL[alphabet.charAt(i)] = i;
+        }
+    }
+
+    private final String expectedHeader;
+    private final int macLength;
+    private final ThreadLocal<Buffers> buffers;
+
+    public HmacTokenVerifier(SecretKey secretKey) {
+        String algorithm = secretKey.getAlgorithm(); // HmacSHA256 / HmacSHA384 / HmacSHA512
+        String jwsAlgorithm = "HS" + algorithm.substring("HmacSHA".length());
+        this.expectedHeader = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("{\"alg\":\"" + jwsAlgorithm + "\"}").getBytes(StandardCharsets.US_ASCII));
+        this.macLength = newMac(secretKey).getMacLength();
+        this.buffers = ThreadLocal.withInitial(() -> new Buffers(newMac(secretKey), macLength));
+    }
+
+    public TokenClaims verify(String token) {
+        if (token == null || token.length() > MAX_TOKEN_LENGTH || !token.startsWith(expectedHeader)) {
+            return null;
+        }
+        int firstDot = expectedHeader.length();
+        if (token.length() <= firstDot || token.charAt(firstDot) != '.') {
+            return null;
+        }
+        int secondDot = token.indexOf('.', firstDot + 1);
+        if (secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+            return null;
+        }
+
+        Buffers b = buffers.get();
+        if (!verifySignature(b, token, secondDot)) {
+            return null;
+        }
+
+        int payloadLength = decode(token, firstDot + 1, secondDot, b.payload(token.length()));
+        if (payloadLength < 0) {
+            return null;
+        }
+        return parseClaims(b.payload, payloadLength);
+    }
+
+    private boolean verifySignature(Buffers b, String token, int signingInputEnd) {
+        byte[] input = b.input(signingInputEnd);
+        for (int i = 0; i < signingInputEnd; i++) {
+            input[i] = (byte) token.charAt(i); // base64url 문자와 '.' 뿐이므로 ASCII
+        }
+
+        int signatureLength = decode(token, signingInputEnd + 1, token.length(), b.signature);
+        if (signatureLength != macLength) {
+            return false;
+        }
+
+        try {
+            b.mac.update(input, 0, signingInputEnd);
+            b.mac.doFinal(b.expected, 0);
+        } catch (ShortBufferException e) {
+            return false;
+        }
+
+        // 일치하지 않는 위치와 상관없이 항상 전체를 비교한다 (타이밍으로 서명을 추측할 수 없도록)
+        int diff = 0;
+        for (int i = 0; i < macLength; i++) {
+            diff |= b.expected[i] ^ b.signature[i];
+        }
+        return diff == 0;
+    }
+
+    // 평평한 JSON 객체에서 sub, role, jti, exp 만 꺼낸다. 예상하지 못한 형태면 null (jjwt 로 위임)
+    private TokenClaims parseClaims(byte[] json, int length) {
+        String subject = null;
+        String role = null;
+        String tokenId = null;
+        long expiration = -1;
+
+        int i = skipWhitespace(json, 0, length);
+        if (i >= length || json[i] != '{') {
+            return null;
+        }
+        i = skipWhitespace(json, i + 1, length);
+        if (i < length && json[i] == '}') {
+            return null;
+        }
+
+        while (i < length) {
+            // 키
+            if (json[i] != '"') {
+                return null;
+            }
+            int keyStart = i + 1;
+            int keyEnd = stringEnd(json, keyStart, length);
+            if (keyEnd < 0) {
+                return null;
+            }
+            i = skipWhitespace(json, keyEnd + 1, length);
+            if (i >= length || json[i] != ':') {
+                return null;
+            }
+            i = skipWhitespace(json, i + 1, length);
+            if (i >= length) {
+                return null;
+            }
+
+            // 값: 문자열 또는 정수만 허용
+            String key = knownKey(json, keyStart, keyEnd);
+            if (json[i] == '"') {
+                int valueStart = i + 1;
+                int valueEnd = stringEnd(json, valueStart, length);
+                if (valueEnd < 0) {
+                    return null;
+                }
+                switch (key) {
+                    case "sub" -> subject = new String(json, valueStart, valueEnd - valueStart, StandardCharsets.UTF_8);
+                    case "role" -> role = new String(json, valueStart, valueEnd - valueStart, StandardCharsets.UTF_8);
+                    case "jti" -> tokenId = new String(json, valueStart, valueEnd - valueStart, StandardCharsets.UTF_8);
+                    case "exp", "iat", "nbf" -> {
+                        return null;
+                    }
+                    default -> { }
+                }
+                i = valueEnd + 1;
+            } else if (json[i] >= '0' && json[i] <= '9') {
+                long number = 0;
+                int digits = 0;
+                while (i < length && json[i] >= '0' && json[i] <= '9') {
+                    if (++digits > 18) {
+                        return null;
+                    }
+                    number = number * 10 + (json[i++] - '0');
+                }
+                switch (key) {
+                    case "exp" -> expiration = number;
+                    case "iat" -> { }
+                    // nbf 등 다른 숫자 클레임은 jjwt 에 맡긴다
+                    default -> {
+                        return null;
+                    }
+                }
+            } else {
+                return null;
+            }
+
+            i = skipWhitespace(json, i, length);
+            if (i >= length) {
+                return null;
+            }
+            if (json[i] == '}') {
+                if (skipWhitespace(json, i + 1, length) != length) {
+                    return null;
+                }
+                break;
+            }
+            if (json[i] != ',') {
+                return null;
+            }
+            i = skipWhitespace(json, i + 1, length);
+        }
+
+        if (subject == null || expiration < 0) {
+            return null;
+        }
+        long expiresAt = expiration * 1000;
+        if (expiresAt <= System.currentTimeMillis()) {
+            return null;
+        }
+        return new TokenClaims(tokenId, subject, role, expiresAt);
+    }
+
+    private static final String[] KNOWN_KEYS = {"sub", "role", "jti", "exp", "iat", "nbf"};
+
+    // 키 문자열을 새로 만들지 않고 알고 있는 클레임 이름과 바이트로 비교한다 (그 외는 "")
+    private static String knownKey(byte[] json, int start, int end) {
+        for (String known : KNOWN_KEYS) {
+            if (known.length() == end - start) {
+                boolean same = true;
+                for (int i = 0; i < known.length() && same; i++) {
+                    same = json[start + i] == known.charAt(i);
+                }
+                if (same) {
+                    return known;
+                }
+            }
+        }
+        return "";
+    }
+
+    // 이스케이프가 있는 문자열은 다루지 않는다 (-1)
+    private static int stringEnd(byte[] json, int start, int length) {
+        for (int i = start; i < length; i++) {
+            if (json[i] == '"') {
+                return i;
+            }
+            if (json[i] == '\\') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipWhitespace(byte[] json, int i, int length) {
+        while (i < length && (json[i] == ' ' || json[i] == '\n' || json[i] == '\r' || json[i] == '\t')) {
+            i++;
+        }
+        return i;
+    }
+
+    // 패딩 없는 base64url 을 out 에 디코딩하고 길이를 돌려준다 (잘못된 입력이면 -1)
+    private static int decode(String s, int start, int end, byte[] out) {
+        int length = end - start;
+        if (length <= 0 || length % 4 == 1 || (length * 3) / 4 > out.length) {
+            return -1;
+        }
+
+        int written = 0;
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            int value = c < 128 ? BASE64URL[c] : -1;
+            if (value < 0) {
+                return -1;
+            }
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                out[written++] = (byte) (bits >> bitCount);
+            }
+        }
+        return written;
+    }
+
+    private static Mac newMac(SecretKey secretKey) {
+        try {
+            Mac mac = Mac.getInstance(secretKey.getAlgorithm());
+            mac.init(secretKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unsupported JWT key algorithm: " + secretKey.getAlgorithm(), e);
+        }
+    }
+
+    // 스레드마다 하나씩 두고 재사용하는 Mac 과 작업 버퍼
+    private static final class Buffers {
+        private final Mac mac;
+        private final byte[] expected;
+        private final byte[] signature;
+        private byte[] input = new byte[512];
+        private byte[] payload = new byte[512];
+
+        private Buffers(Mac mac, int macLength) {
+            this.mac = mac;
+            this.expected = new byte[macLength];
+            this.signature = new byte[macLength + 3];
+        }
+
+        private byte[] input(int length) {
+            if (input.length < length) {
+                input = new byte[length];
+            }
+            return input;
+        }
+
+        private byte[] payload(int length) {
+            if (payload.length < length) {
+                payload = new byte[length];
+            }
+            return payload;
+        }
+    }
+}
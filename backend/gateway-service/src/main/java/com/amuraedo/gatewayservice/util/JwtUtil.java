@@ -1,5 +1,6 @@
 package com.amuraedo.gatewayservice.util;
 
+import com.amuraedo.gatewayservice.util.TokenRejections.Reason;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
@@ -8,6 +9,7 @@ import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
@@ -19,6 +21,8 @@ import java.util.Date;
 public class JwtUtil {
     private final SecretKey secretKey;
     private final long accessTokenExpTime;
+    private final HmacTokenVerifier fastVerifier;
+    private final TokenRejections rejections = new TokenRejections();
 
     // application.yml에서 jwt.secret과 jwt.expiration-time 값을 가져옴
     public JwtUtil(
@@ -28,6 +32,7 @@ public class JwtUtil {
         // 0.12.3 버전부터는 String 키를 직접 사용하지 않고 SecretKey 객체로 변환해야 함
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.accessTokenExpTime = accessTokenExpTime;
+        this.fastVerifier = new HmacTokenVerifier(secretKey);
     }
 
     public String createToken(Long userId, String role) {
@@ -51,22 +56,65 @@ public class JwtUtil {
     }
 
     public boolean validateToken(String token) {
+        return verifyClaims(token) != null;
+    }
+
+    // 서명 검증과 클레임 추출을 한 번의 파싱으로 처리 (검증 실패 시 null)
+    public TokenClaims verifyClaims(String token) {
+        // 정상 토큰은 전용 검증기로 처리하고, 통과하지 못한 토큰만 jjwt 로 다시 검증해 사유를 가린다
+        TokenClaims fast = fastVerifier.verify(token);
+        if (fast != null) {
+            return fast;
+        }
+        return verifyClaimsWithJjwt(token);
+    }
+
+    public TokenClaims verifyClaimsWithJjwt(String token) {
         try {
-            Jwts.parser()
+            Claims claims = Jwts.parser()
                     .verifyWith(secretKey)  // setSigningKey(key) -> verifyWith(secretKey)
                     .build()
-                    .parseSignedClaims(token); // parseClaimsJws(token) -> parseSignedClaims(token)
-            return true;
-        } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
-            log.info("Invalid JWT Token", e);
+                    .parseSignedClaims(token) // parseClaimsJws(token) -> parseSignedClaims(token)
+                    .getPayload();
+            Date expiration = claims.getExpiration();
+            return new TokenClaims(
+                    claims.getId(),
+                    claims.getSubject(),
+                    claims.get("role", String.class),
+                    expiration == null ? Long.MAX_VALUE : expiration.getTime()
+            );
+        } catch (io.jsonwebtoken.security.SecurityException e) {
+            reject(Reason.SIGNATURE, e);
+        } catch (MalformedJwtException e) {
+            reject(Reason.MALFORMED, e);
         } catch (ExpiredJwtException e) {
-            log.info("Expired JWT Token", e);
+            reject(Reason.EXPIRED, e);
         } catch (UnsupportedJwtException e) {
-            log.info("Unsupported JWT Token", e);
+            reject(Reason.UNSUPPORTED, e);
         } catch (IllegalArgumentException e) {
-            log.info("JWT claims string is empty.", e);
+            reject(Reason.EMPTY, e);
+        }
+        return null;
+    }
+
+    // 위조/만료 토큰이 대량으로 들어와도 로그가 폭주하지 않도록 거절은 건수만 세고 주기적으로 요약한다
+    public void reject(Reason reason, Exception e) {
+        rejections.record(reason);
+        if (log.isDebugEnabled()) {
+            log.debug("JWT rejected ({}): {}", reason, e != null ? e.getMessage() : "pre-check");
+        }
+    }
+
+    public TokenRejections getRejections() {
+        return rejections;
+    }
+
+    @Scheduled(fixedDelayString = "${gateway.jwt.rejection-log-interval:60000}")
+    public void logRejectionSummary() {
+        String summary = rejections.summarize();
+        if (summary != null) {
+            log.info("Rejected JWT tokens since last summary: {}", summary);
         }
-        return false;
     }
 
     private Claims parseClaims(String accessToken) {
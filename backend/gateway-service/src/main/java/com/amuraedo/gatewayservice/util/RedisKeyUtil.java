@@ -8,13 +8,29 @@ public class RedisKeyUtil {
 
     private static final String REFRESH_TOKEN_PREFIX = "RT:";
     private static final String BALCKLIST_PREFIX = "BL:";
+    private static final String BLACKLIST_CHANNEL = "blacklist:events";
+    private static final String RATE_LIMIT_PREFIX = "RL:";
 
     public static String getRefreshTokenKey(Long userId){
         return REFRESH_TOKEN_PREFIX + userId;
     }
 
-    public static String getBalckListKey(String accessToken){
-        return BALCKLIST_PREFIX + accessToken;
+    // tokenId: 토큰의 jti (jti 가 없는 이전 토큰은 토큰 다이제스트, 마이그레이션 기간에는 토큰 원문)
+    public static String getBalckListKey(String tokenId){
+        return BALCKLIST_PREFIX + tokenId;
+    }
+
+    // 로그아웃으로 블랙리스트 키가 추가될 때마다 해당 키가 발행되는 채널
+    public static String getBlackListChannel(){
+        return BLACKLIST_CHANNEL;
+    }
+
+    public static String getBlackListPattern(){
+        return BALCKLIST_PREFIX + "*";
+    }
+
+    public static String getRateLimitKey(String bucketKey){
+        return RATE_LIMIT_PREFIX + bucketKey;
     }
 
 }
@@ -0,0 +1,102 @@
+package com.amuraedo.gatewayservice.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 게이트웨이 응답 압축 기준.
+ * Netty 압축(CompressionConfig)과 미리 압축해 둔 공유 응답(RequestCoalescingFilter)이 같은 기준을 쓴다.
+ *
+ * - Content-Type 이 mime-types 중 하나이고, 이미 인코딩되지 않은 응답만 압축
+ * - Content-Length 가 min-size 보다 작으면 압축하지 않는다 (길이를 모르는 chunked 응답은 압축)
+ */
+@Component
+public class ResponseCompression {
+
+    private final boolean enabled;
+    private final long minSize;
+    private final List<MediaType> mimeTypes;
+
+    public ResponseCompression(
+            @Value("${gateway.compression.enabled:true}") boolean enabled,
+            @Value("${gateway.compression.min-size:1KB}") DataSize minSize,
+            @Value("${gateway.compression.mime-types:application/json}") List<String> mimeTypes
+    ) {
+        this.enabled = enabled;
+        this.minSize = minSize.toBytes();
+        this.mimeTypes = mimeTypes.stream()
+                .filter(type -> !type.isBlank())
+                .map(type -> MediaType.parseMediaType(type.trim()))
+                .toList();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // contentLength 를 모르면 -1
+    public boolean isCompressible(String contentType, long contentLength, String contentEncoding) {
+        if (!enabled || contentType == null || (contentEncoding != null && !contentEncoding.isBlank())) {
+            return false;
+        }
+        if (contentLength >= 0 && contentLength < minSize) {
+            return false;
+        }
+        MediaType mediaType;
+        try {
+            mediaType = MediaType.parseMediaType(contentType);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return mimeTypes.stream().anyMatch(type -> type.isCompatibleWith(mediaType));
+    }
+
+    public boolean isCompressible(HttpHeaders responseHeaders, long contentLength) {
+        MediaType contentType = responseHeaders.getContentType();
+        return isCompressible(contentType != null ? contentType.toString() : null,
+                contentLength, responseHeaders.getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    // Accept-Encoding 에 gzip(또는 *)이 있고 q=0 으로 거부하지 않았는지
+    public static boolean acceptsGzip(HttpHeaders requestHeaders) {
+        for (String header : requestHeaders.getOrEmpty(HttpHeaders.ACCEPT_ENCODING)) {
+            for (String part : header.split(",")) {
+                String[] tokens = part.trim().split(";");
+                String coding = tokens[0].trim();
+                if (!coding.equalsIgnoreCase("gzip") && !coding.equals("*")) {
+                    continue;
+                }
+                boolean rejected = false;
+                for (int i = 1; i < tokens.length; i++) {
+                    String param = tokens[i].trim().replace(" ", "");
+                    if (param.matches("q=0(\\.0{0,3})?")) {
+                        rejected = true;
+                    }
+                }
+                if (!rejected) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
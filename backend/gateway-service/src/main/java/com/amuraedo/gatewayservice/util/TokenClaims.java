@@ -0,0 +1,10 @@
+package com.amuraedo.gatewayservice.util;
+
+// 서명 검증이 끝난 토큰에서 게이트웨이가 실제로 쓰는 값만 추린 것
+public record TokenClaims(
+        String tokenId, // jti (jti 도입 전에 발급된 토큰이면 null)
+        String userId,
+        String role,
+        long expiresAt // 만료 시각 (epoch millis)
+) {
+}
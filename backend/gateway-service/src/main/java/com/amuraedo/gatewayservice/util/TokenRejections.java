@@ -0,0 +1,48 @@
+package com.amuraedo.gatewayservice.util;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 거절된 토큰 수를 사유별로 센다.
+ * 거절마다 로그를 남기는 대신 주기적으로 summarize() 결과를 한 줄로 남긴다.
+ */
+public class TokenRejections {
+
+    public enum Reason { MALFORMED, SIGNATURE, EXPIRED, UNSUPPORTED, EMPTY }
+
+    private final Map<Reason, LongAdder> counts = new EnumMap<>(Reason.class);
+    private final long[] lastSummarized = new long[Reason.values().length];
+
+    public TokenRejections() {
+        for (Reason reason : Reason.values()) {
+            counts.put(reason, new LongAdder());
+        }
+    }
+
+    public void record(Reason reason) {
+        counts.get(reason).increment();
+    }
+
+    public long count(Reason reason) {
+        return counts.get(reason).sum();
+    }
+
+    // 마지막 요약 이후 늘어난 건수 (없으면 null)
+    public synchronized String summarize() {
+        StringJoiner joiner = new StringJoiner(", ");
+        long total = 0;
+        for (Reason reason : Reason.values()) {
+            long current = count(reason);
+            long delta = current - lastSummarized[reason.ordinal()];
+            lastSummarized[reason.ordinal()] = current;
+            if (delta > 0) {
+                joiner.add(reason.name().toLowerCase() + "=" + delta);
+                total += delta;
+            }
+        }
+        return total == 0 ? null : total + " (" + joiner + ")";
+    }
+}
@@ -0,0 +1,41 @@
+package com.amuraedo.gatewayservice.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+// 서명 검증 전에 JWS 형태(header.payload.signature, base64url)인지만 빠르게 확인한다
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TokenShape {
+
+    private static final int MAX_LENGTH = 4096;
+
+    public static boolean looksLikeJws(String token) {
+        if (token == null || token.length() > MAX_LENGTH) {
+            return false;
+        }
+        // 헤더는 '{"' 로 시작하는 JSON 이므로 base64url 로 항상 "eyJ" 로 시작한다
+        if (!token.startsWith("eyJ")) {
+            return false;
+        }
+
+        int dots = 0;
+        int lastDot = -1;
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                // 빈 세그먼트는 허용하지 않는다
+                if (i == lastDot + 1 || ++dots > 2) {
+                    return false;
+                }
+                lastDot = i;
+            } else if (!isBase64Url(c)) {
+                return false;
+            }
+        }
+        return dots == 2 && lastDot < token.length() - 1;
+    }
+
+    private static boolean isBase64Url(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
+    }
+}
@@ -0,0 +1,29 @@
+-- 게이트웨이 인스턴스들이 공유하는 토큰 버킷
+-- KEYS[1]: 버킷 키 / ARGV[1]: 초당 충전 토큰 수, ARGV[2]: 최대 토큰 수, ARGV[3]: 요청당 소모 토큰 수
+local rate = tonumber(ARGV[1])
+local capacity = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+
+-- 게이트웨이 간 시계 차이를 피하기 위해 Redis 시간을 기준으로 한다
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(bucket[1]) or capacity
+local ts = tonumber(bucket[2]) or now
+
+tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000)
+
+local allowed = 0
+local retry_after = 0
+if tokens >= requested then
+    tokens = tokens - requested
+    allowed = 1
+else
+    retry_after = math.ceil((requested - tokens) * 1000 / rate)
+end
+
+redis.call('HSET', KEYS[1], 'tokens', tokens, 'ts', now)
+redis.call('PEXPIRE', KEYS[1], math.ceil(capacity * 1000 / rate) + 1000)
+
+return { allowed, math.floor(tokens), retry_after }
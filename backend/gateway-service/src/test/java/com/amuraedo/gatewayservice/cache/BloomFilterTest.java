@@ -0,0 +1,45 @@
+package com.amuraedo.gatewayservice.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 값은 항상 있다고 판단한다")
+    void mightContain_NoFalseNegative() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("BL:token-" + i);
+        }
+
+        // when & then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("BL:token-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("오탐률은 설정값 근처로 유지된다")
+    void mightContain_FalsePositiveRate() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("BL:token-" + i);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("BL:other-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+}
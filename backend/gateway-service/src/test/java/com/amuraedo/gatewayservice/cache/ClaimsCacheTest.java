@@ -0,0 +1,87 @@
+package com.amuraedo.gatewayservice.cache;
+
+import com.amuraedo.gatewayservice.util.JwtUtil;
+import com.amuraedo.gatewayservice.util.TokenClaims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ClaimsCacheTest {
+
+    private static final String SECRET = "test-secret-key-for-gateway-claims-cache-0123456789";
+
+    private JwtUtil jwtUtil;
+    private SimpleMeterRegistry meterRegistry;
+    private ClaimsCache claimsCache;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = spy(new JwtUtil(SECRET, 3_600_000L));
+        meterRegistry = new SimpleMeterRegistry();
+        claimsCache = new ClaimsCache(jwtUtil, meterRegistry, 100, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 파싱한다")
+    void resolve_ParsesOnce() {
+        // given
+        String token = jwtUtil.createToken(1L, "USER");
+
+        // when
+        TokenClaims first = claimsCache.resolve(token);
+        TokenClaims second = claimsCache.resolve(token);
+
+        // then
+        assertThat(first.userId()).isEqualTo("1");
+        assertThat(first.role()).isEqualTo("USER");
+        assertThat(second).isEqualTo(first);
+        verify(jwtUtil, times(1)).verifyClaims(token);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 다시 와도 서명 검증 없이 거절한다")
+    void resolve_InvalidToken() {
+        // given
+        String token = jwtUtil.createToken(1L, "USER") + "tampered";
+
+        // when & then
+        assertThat(claimsCache.resolve(token)).isNull();
+        assertThat(claimsCache.resolve(token)).isNull();
+        verify(jwtUtil, times(1)).verifyClaims(token);
+        assertThat(meterRegistry.get("gateway.jwt.negative-cache.hits").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("gateway.jwt.rejected").tag("reason", "signature").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("JWS 형태가 아닌 토큰은 파싱하지 않고 거절한다")
+    void resolve_MalformedToken() {
+        // given
+        String token = "not-a-jwt";
+
+        // when & then
+        assertThat(claimsCache.resolve(token)).isNull();
+        verify(jwtUtil, never()).verifyClaims(token);
+        assertThat(meterRegistry.get("gateway.jwt.rejected").tag("reason", "malformed").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 캐시에서 통과시키지 않는다")
+    void resolve_ExpiredToken() {
+        // given
+        JwtUtil expiredJwtUtil = new JwtUtil(SECRET, -1_000L);
+        String token = expiredJwtUtil.createToken(1L, "USER");
+
+        // when & then
+        assertThat(claimsCache.resolve(token)).isNull();
+    }
+}
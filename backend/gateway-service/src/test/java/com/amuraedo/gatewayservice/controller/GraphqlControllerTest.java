@@ -0,0 +1,61 @@
+package com.amuraedo.gatewayservice.controller;
+
+import com.amuraedo.gatewayservice.dto.AnswerDTO;
+import com.amuraedo.gatewayservice.dto.GraphqlCaller;
+import com.amuraedo.gatewayservice.dto.QuestionDTO;
+import com.amuraedo.gatewayservice.service.GraphqlDataService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GraphqlControllerTest {
+
+    private static final GraphqlCaller CALLER = new GraphqlCaller("1", "USER", null);
+
+    private GraphqlDataService graphqlDataService;
+    private GraphqlController graphqlController;
+
+    @BeforeEach
+    void setUp() {
+        graphqlDataService = mock(GraphqlDataService.class);
+        graphqlController = new GraphqlController(graphqlDataService);
+    }
+
+    @Test
+    @DisplayName("여러 질문의 답변을 qna-service 한 번 호출로 가져와 질문별로 나눈다")
+    void answers_LoadsAllQuestionsInOneCall() {
+        // given
+        QuestionDTO first = new QuestionDTO(10L, 1L, "질문1", "내용1", true);
+        QuestionDTO second = new QuestionDTO(20L, 1L, "질문2", "내용2", false);
+        QuestionDTO third = new QuestionDTO(30L, 2L, "질문3", "내용3", true);
+        when(graphqlDataService.getAnswers(eq(CALLER), any())).thenReturn(Mono.just(List.of(
+                new AnswerDTO(100L, 9L, 10L, "답변1"),
+                new AnswerDTO(101L, 9L, 30L, "답변2"),
+                new AnswerDTO(102L, 8L, 10L, "답변3")
+        )));
+
+        // when
+        Map<QuestionDTO, List<AnswerDTO>> result = graphqlController
+                .answers(List.of(first, second, third), CALLER)
+                .block(Duration.ofSeconds(5));
+
+        // then
+        verify(graphqlDataService, times(1)).getAnswers(CALLER, List.of(10L, 20L, 30L));
+        assertThat(result.get(first)).extracting(AnswerDTO::answerId).containsExactly(100L, 102L);
+        assertThat(result.get(second)).isEmpty();
+        assertThat(result.get(third)).extracting(AnswerDTO::answerId).containsExactly(101L);
+    }
+}
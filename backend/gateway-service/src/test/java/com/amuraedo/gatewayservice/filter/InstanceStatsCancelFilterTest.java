@@ -0,0 +1,62 @@
+package com.amuraedo.gatewayservice.filter;
+
+import com.amuraedo.gatewayservice.loadbalancer.InstanceStats;
+import com.amuraedo.gatewayservice.loadbalancer.InstanceStatsRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InstanceStatsCancelFilterTest {
+
+    private final InstanceStatsRegistry registry = new InstanceStatsRegistry(Duration.ofSeconds(10), Duration.ofSeconds(5));
+    private final InstanceStatsCancelFilter filter = new InstanceStatsCancelFilter(registry);
+    private final ServiceInstance instance = new DefaultServiceInstance("stats-1", "stats-service", "10.0.0.1", 8080, false);
+
+    @Test
+    @DisplayName("취소된 업스트림 호출은 처리 중 요청 수를 되돌린다")
+    void filter_ReleasesInFlightOnCancel() {
+        // given
+        MockServerWebExchange exchange = exchangeRoutedTo(instance);
+        InstanceStats stats = registry.get(instance);
+        stats.start(); // InstanceStatsLifecycle.onStartRequest
+
+        // when
+        Disposable call = filter.filter(exchange, ex -> Mono.never()).subscribe();
+        call.dispose();
+
+        // then
+        assertThat(stats.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("정상 완료된 호출은 onComplete 가 처리하므로 건드리지 않는다")
+    void filter_LeavesCompletedCallToLifecycle() {
+        // given
+        MockServerWebExchange exchange = exchangeRoutedTo(instance);
+        InstanceStats stats = registry.get(instance);
+        stats.start();
+
+        // when
+        filter.filter(exchange, ex -> Mono.empty()).block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(stats.inFlight()).isEqualTo(1);
+    }
+
+    private static MockServerWebExchange exchangeRoutedTo(ServiceInstance instance) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/stats-service/stats/user-stats"));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR, new DefaultResponse(instance));
+        return exchange;
+    }
+}
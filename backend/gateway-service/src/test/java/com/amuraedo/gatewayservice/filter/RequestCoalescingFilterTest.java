@@ -0,0 +1,175 @@
+package com.amuraedo.gatewayservice.filter;
+
+import com.amuraedo.gatewayservice.util.ResponseCompression;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestCoalescingFilterTest {
+
+    private static final String RANKING_PATH = "/api/v1/stats-service/stats/last-week-time-ranking";
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestCoalescingFilter filter;
+    private AtomicInteger upstreamCalls;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ResponseCompression responseCompression = new ResponseCompression(true, DataSize.ofBytes(4), List.of("application/json"));
+        filter = new RequestCoalescingFilter(meterRegistry, responseCompression, List.of(RANKING_PATH), 1024, Duration.ZERO, DataSize.ofMegabytes(1));
+        upstreamCalls = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 GET 요청은 업스트림을 한 번만 호출하고 응답을 공유한다")
+    void filter_CoalescesConcurrentRequests() {
+        // given
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get(RANKING_PATH));
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get(RANKING_PATH));
+        GatewayFilterChain chain = upstream(HttpStatus.OK, "ranking");
+
+        // when
+        Mono.when(filter.filter(first, chain), filter.filter(second, chain)).block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        assertThat(first.getResponse().getBodyAsString().block()).isEqualTo("ranking");
+        assertThat(second.getResponse().getBodyAsString().block()).isEqualTo("ranking");
+        assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(meterRegistry.get("gateway.coalescing.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("실패 응답은 공유하지 않고 각 요청이 업스트림을 직접 호출한다")
+    void filter_DoesNotShareErrorResponse() {
+        // given
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get(RANKING_PATH));
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get(RANKING_PATH));
+        GatewayFilterChain chain = upstream(HttpStatus.SERVICE_UNAVAILABLE, "error");
+
+        // when
+        Mono.when(filter.filter(first, chain), filter.filter(second, chain)).block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("max-body-size 를 넘는 응답은 leader 에게만 보내고 공유하지 않는다")
+    void filter_DoesNotShareOversizedResponse() {
+        // given
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get(RANKING_PATH));
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get(RANKING_PATH));
+        String large = "x".repeat(2048);
+        GatewayFilterChain chain = upstream(HttpStatus.OK, large);
+
+        // when
+        Mono.when(filter.filter(first, chain), filter.filter(second, chain)).block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+        assertThat(first.getResponse().getBodyAsString().block()).isEqualTo(large);
+        assertThat(second.getResponse().getBodyAsString().block()).isEqualTo(large);
+    }
+
+    @Test
+    @DisplayName("요청 제한 잔량, Set-Cookie 같은 요청별 헤더는 follower 에게 복사하지 않는다")
+    void filter_DoesNotSharePerRequestHeaders() {
+        // given
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get(RANKING_PATH));
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get(RANKING_PATH));
+        second.getResponse().getHeaders().set(RateLimitFilter.REMAINING_HEADER, "7");
+        GatewayFilterChain chain = exchange -> {
+            exchange.getResponse().getHeaders().set(RateLimitFilter.REMAINING_HEADER, "0");
+            exchange.getResponse().getHeaders().set(HttpHeaders.SET_COOKIE, "session=leader");
+            return upstream(HttpStatus.OK, "ranking").filter(exchange);
+        };
+
+        // when
+        Mono.when(filter.filter(first, chain), filter.filter(second, chain)).block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        assertThat(second.getResponse().getBodyAsString().block()).isEqualTo("ranking");
+        assertThat(second.getResponse().getHeaders().getFirst(RateLimitFilter.REMAINING_HEADER)).isEqualTo("7");
+        assertThat(second.getResponse().getHeaders().containsKey(HttpHeaders.SET_COOKIE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 경로는 병합하지 않는다")
+    void filter_SkipsNotListedPath() {
+        // given
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/stats-service/stats/user-stats"));
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/stats-service/stats/user-stats"));
+        GatewayFilterChain chain = upstream(HttpStatus.OK, "mine");
+
+        // when
+        Mono.when(filter.filter(first, chain), filter.filter(second, chain)).block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("gzip 을 받는 follower 에게는 미리 압축한 본문을 돌려준다")
+    void filter_ServesPrecompressedBodyToFollower() throws IOException {
+        // given
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get(RANKING_PATH));
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get(RANKING_PATH)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"));
+        GatewayFilterChain chain = exchange -> {
+            exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            return upstream(HttpStatus.OK, "[{\"rank\":1}]").filter(exchange);
+        };
+
+        // when
+        Mono.when(filter.filter(first, chain), filter.filter(second, chain)).block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(second.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        byte[] gzipped = DataBufferUtils.join(second.getResponse().getBody())
+                .map(buffer -> {
+                    byte[] bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    DataBufferUtils.release(buffer);
+                    return bytes;
+                })
+                .block();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("[{\"rank\":1}]");
+        }
+        assertThat(meterRegistry.get("gateway.compression.precompressed").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    // 응답을 늦게 돌려주는 업스트림 (그 사이 들어온 요청이 follower 가 되도록)
+    private GatewayFilterChain upstream(HttpStatus status, String body) {
+        return exchange -> Mono.delay(Duration.ofMillis(100))
+                .then(Mono.defer(() -> {
+                    upstreamCalls.incrementAndGet();
+                    exchange.getResponse().setStatusCode(status);
+                    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+                    return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(bytes)));
+                }));
+    }
+}
@@ -0,0 +1,138 @@
+package com.amuraedo.gatewayservice.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UploadSizeLimitFilterTest {
+
+    private static final String UPLOAD_PATH = "/api/v1/feed-service/feed";
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UploadSizeLimitFilter filter;
+
+    // 만들어졌지만 아직 해제되지 않은 버퍼의 바이트 수 (게이트웨이가 붙잡고 있는 본문 크기)
+    private AtomicLong outstanding;
+    private AtomicLong peak;
+    private AtomicLong forwarded;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new UploadSizeLimitFilter(meterRegistry, DataSize.ofMegabytes(8));
+        outstanding = new AtomicLong();
+        peak = new AtomicLong();
+        forwarded = new AtomicLong();
+    }
+
+    @Test
+    @DisplayName("큰 업로드를 동시에 많이 보내도 업로드마다 붙잡는 버퍼는 몇 개로 유지된다")
+    void filter_StreamsParallelUploadsWithBoundedMemory() {
+        // given
+        int uploads = 32;
+        int chunksPerUpload = 64; // 업로드당 4MB, 전체 128MB
+        GatewayFilterChain chain = slowDownstream();
+
+        // when
+        Flux.range(0, uploads)
+                .flatMap(i -> filter.filter(upload(chunksPerUpload), chain), uploads)
+                .blockLast(Duration.ofSeconds(30));
+
+        // then
+        assertThat(forwarded.get()).isEqualTo((long) uploads * chunksPerUpload * CHUNK_SIZE);
+        assertThat(outstanding.get()).isZero();
+        // 다운스트림 큐(2개) + 처리 중인 1개 정도만 살아 있어야 한다. 본문 전체를 모으면 업로드당 64개가 된다
+        assertThat(peak.get()).isLessThanOrEqualTo((long) uploads * 4 * CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("Content-Length 가 제한을 넘으면 본문을 읽지 않고 413 을 돌려준다")
+    void filter_RejectsByContentLength() {
+        // given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post(UPLOAD_PATH)
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .contentLength(DataSize.ofMegabytes(9).toBytes())
+                .body(body(1)));
+        AtomicBoolean called = new AtomicBoolean();
+
+        // when
+        filter.filter(exchange, e -> {
+            called.set(true);
+            return e.getRequest().getBody().then();
+        }).block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(called).isFalse();
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+        assertThat(meterRegistry.get("gateway.upload.rejected").tag("reason", "content-length").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Content-Length 없이 제한보다 긴 본문을 보내면 넘는 순간 끊고 413 을 돌려준다")
+    void filter_RejectsWhileStreaming() {
+        // given
+        MockServerWebExchange exchange = upload(200); // 12.5MB
+
+        // when
+        filter.filter(exchange, slowDownstream()).block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+        assertThat(forwarded.get()).isLessThanOrEqualTo(DataSize.ofMegabytes(8).toBytes());
+    }
+
+    private MockServerWebExchange upload(int chunks) {
+        return MockServerWebExchange.from(MockServerHttpRequest.post(UPLOAD_PATH)
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(body(chunks)));
+    }
+
+    // 요청받은 만큼만 버퍼를 만드는 본문 (클라이언트 소켓에서 읽어 오는 것과 같다)
+    private Flux<DataBuffer> body(int chunks) {
+        return Flux.<DataBuffer, Integer>generate(() -> 0, (sent, sink) -> {
+            if (sent == chunks) {
+                sink.complete();
+                return sent;
+            }
+            long now = outstanding.addAndGet(CHUNK_SIZE);
+            peak.accumulateAndGet(now, Math::max);
+            sink.next(DefaultDataBufferFactory.sharedInstance.wrap(new byte[CHUNK_SIZE]));
+            return sent + 1;
+        });
+    }
+
+    // 한 번에 2개씩만 요청하는 느린 다운스트림
+    private GatewayFilterChain slowDownstream() {
+        return exchange -> exchange.getRequest().getBody()
+                .publishOn(Schedulers.parallel(), 2)
+                .doOnNext(buffer -> {
+                    forwarded.addAndGet(buffer.readableByteCount());
+                    release(buffer);
+                })
+                .then();
+    }
+
+    private void release(DataBuffer buffer) {
+        outstanding.addAndGet(-buffer.capacity());
+        DataBufferUtils.release(buffer);
+    }
+}
@@ -0,0 +1,53 @@
+package com.amuraedo.gatewayservice.limiter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalTokenBucketsTest {
+
+    private final LocalTokenBuckets buckets = new LocalTokenBuckets();
+
+    @Test
+    @DisplayName("버킷 크기만큼은 바로 통과하고 그 다음 요청은 거절한다")
+    void tryAcquire_BurstThenReject() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            assertThat(buckets.tryAcquire("route:user:1", 1, 5, 1).allowed()).isTrue();
+        }
+
+        // when
+        RateLimitResult result = buckets.tryAcquire("route:user:1", 1, 5, 1);
+
+        // then
+        assertThat(result.allowed()).isFalse();
+        assertThat(result.remaining()).isZero();
+        assertThat(result.retryAfterMillis()).isPositive().isLessThanOrEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("서로 다른 키는 버킷을 공유하지 않는다")
+    void tryAcquire_SeparateKeys() {
+        // given
+        buckets.tryAcquire("route:user:1", 1, 1, 1);
+
+        // when & then
+        assertThat(buckets.tryAcquire("route:user:1", 1, 1, 1).allowed()).isFalse();
+        assertThat(buckets.tryAcquire("route:user:2", 1, 1, 1).allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("다시 가득 차기 전의 버킷은 정리하지 않는다")
+    void evictIdle_KeepsRecentBucket() {
+        // given
+        buckets.tryAcquire("route:user:1", 1, 5, 1);
+
+        // when
+        buckets.evictIdle();
+
+        // then
+        assertThat(buckets.size()).isEqualTo(1);
+        assertThat(buckets.tryAcquire("route:user:1", 1, 5, 1).remaining()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,88 @@
+package com.amuraedo.gatewayservice.limiter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VegasLimitTest {
+
+    private static final long PROBE = Duration.ofMinutes(1).toNanos();
+    private static final long RTT = Duration.ofMillis(10).toNanos();
+
+    @Test
+    @DisplayName("응답 시간이 기준과 같으면 한도를 늘린다")
+    void release_IncreasesWhenNoQueue() {
+        // given
+        VegasLimit limit = new VegasLimit(10, 1, 100, PROBE);
+        limit.tryAcquire(1.0);
+        limit.release(RTT, false);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            limit.tryAcquire(1.0);
+        }
+        limit.release(RTT, false);
+
+        // then
+        assertThat(limit.getLimit()).isGreaterThan(10);
+    }
+
+    @Test
+    @DisplayName("응답 시간이 기준보다 크게 늘어나면 한도를 줄인다")
+    void release_DecreasesWhenQueueGrows() {
+        // given
+        VegasLimit limit = new VegasLimit(50, 1, 100, PROBE);
+        limit.tryAcquire(1.0);
+        limit.release(RTT, false);
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            limit.tryAcquire(1.0);
+        }
+        limit.release(RTT * 10, false);
+
+        // then
+        assertThat(limit.getLimit()).isLessThan(50);
+    }
+
+    @Test
+    @DisplayName("빠르게 실패한 요청은 한도를 줄이고 기준 응답 시간은 바꾸지 않는다")
+    void release_DroppedDoesNotLowerBaseline() {
+        // given
+        VegasLimit limit = new VegasLimit(10, 1, 100, PROBE);
+        limit.tryAcquire(1.0);
+        limit.release(RTT, false);
+
+        // when
+        limit.tryAcquire(1.0);
+        limit.release(RTT / 10, true);
+
+        // then
+        assertThat(limit.getLimit()).isLessThan(10);
+
+        // 기준이 그대로 10ms 이면 같은 응답 시간에서 다시 한도를 늘린다
+        int reduced = limit.getLimit();
+        for (int i = 0; i < reduced; i++) {
+            limit.tryAcquire(1.0);
+        }
+        limit.release(RTT, false);
+        assertThat(limit.getLimit()).isGreaterThan(reduced);
+    }
+
+    @Test
+    @DisplayName("우선순위가 낮은 요청은 한도의 일부만 쓸 수 있다")
+    void tryAcquire_LowPriorityShare() {
+        // given
+        VegasLimit limit = new VegasLimit(10, 1, 100, PROBE);
+        for (int i = 0; i < 7; i++) {
+            assertThat(limit.tryAcquire(0.7)).isTrue();
+        }
+
+        // when & then
+        assertThat(limit.tryAcquire(0.7)).isFalse();
+        assertThat(limit.tryAcquire(1.0)).isTrue();
+    }
+}
@@ -0,0 +1,62 @@
+package com.amuraedo.gatewayservice.loadbalancer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InstanceStatsTest {
+
+    private static final long DECAY = Duration.ofSeconds(10).toNanos();
+    private static final long PENALTY = Duration.ofSeconds(5).toNanos();
+
+    @Test
+    @DisplayName("느린 응답을 받은 인스턴스는 비용이 바로 커진다")
+    void complete_SlowResponseRaisesCostImmediately() {
+        // given
+        InstanceStats fast = new InstanceStats(DECAY, PENALTY);
+        InstanceStats slow = new InstanceStats(DECAY, PENALTY);
+
+        // when
+        fast.start();
+        fast.complete(Duration.ofMillis(10).toNanos());
+        slow.start();
+        slow.complete(Duration.ofMillis(500).toNanos());
+
+        // then
+        assertThat(slow.cost()).isGreaterThan(fast.cost() * 10);
+    }
+
+    @Test
+    @DisplayName("처리 중인 요청이 많을수록 비용이 커진다")
+    void cost_GrowsWithInFlight() {
+        // given
+        InstanceStats stats = new InstanceStats(DECAY, PENALTY);
+        stats.start();
+        stats.complete(Duration.ofMillis(10).toNanos());
+        double idleCost = stats.cost();
+
+        // when
+        stats.start();
+        stats.start();
+
+        // then
+        assertThat(stats.cost()).isGreaterThan(idleCost * 2);
+    }
+
+    @Test
+    @DisplayName("실패한 인스턴스는 penalty 만큼 비용이 커진다")
+    void fail_AppliesPenalty() {
+        // given
+        InstanceStats stats = new InstanceStats(DECAY, PENALTY);
+
+        // when
+        stats.start();
+        stats.fail();
+
+        // then
+        assertThat(stats.cost()).isGreaterThan(Duration.ofSeconds(4).toNanos());
+    }
+}
@@ -0,0 +1,57 @@
+package com.amuraedo.gatewayservice.service;
+
+import com.amuraedo.gatewayservice.dto.DashboardResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DashboardServiceTest {
+
+    @Test
+    @DisplayName("ApiResponse 로 감싼 응답은 data 를, 감싸지 않은 응답은 본문 전체를 담는다")
+    void getDashboard_DecodesWrappedAndRawLegs() {
+        // given
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    String path = request.url().getPath();
+                    String body;
+                    if (path.equals("/stats/user-stats")) {
+                        body = "{\"success\":true,\"data\":[{\"totalCalories\":300}]}";
+                    } else if (path.equals("/notification/unread")) {
+                        body = "[{\"id\":1,\"content\":\"알림\"}]";
+                    } else {
+                        return Mono.just(ClientResponse.create(HttpStatus.NO_CONTENT).build());
+                    }
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(body)
+                            .build());
+                })
+                .build();
+        DashboardService dashboardService = new DashboardService(webClient, new SimpleMeterRegistry(), Duration.ofSeconds(2));
+        ReflectionTestUtils.setField(dashboardService, "internalSecretKey", "secret");
+
+        // when
+        DashboardResponse response = dashboardService.getDashboard("1", "USER", LocalDate.of(2025, 1, 6))
+                .block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(response.userStats().get(0).get("totalCalories").asInt()).isEqualTo(300);
+        assertThat(response.unreadNotifications().isArray()).isTrue();
+        assertThat(response.unreadNotifications().get(0).get("content").asText()).isEqualTo("알림");
+        assertThat(response.workoutPlans()).isNull();
+        assertThat(response.failed()).isEmpty();
+    }
+}
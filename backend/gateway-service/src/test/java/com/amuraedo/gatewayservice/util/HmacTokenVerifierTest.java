@@ -0,0 +1,82 @@
+package com.amuraedo.gatewayservice.util;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HmacTokenVerifierTest {
+
+    private static final SecretKey KEY =
+            Keys.hmacShaKeyFor("test-secret-key-for-gateway-claims-cache-0123456789".getBytes(StandardCharsets.UTF_8));
+
+    private final HmacTokenVerifier verifier = new HmacTokenVerifier(KEY);
+
+    @Test
+    @DisplayName("member-service 형태의 토큰에서 jjwt 와 같은 클레임을 꺼낸다")
+    void verify_ValidToken() {
+        // given
+        Date now = new Date();
+        Date expiration = new Date(now.getTime() + 60_000);
+        String token = Jwts.builder()
+                .id("abc123")
+                .subject("7")
+                .claim("role", "ADMIN")
+                .issuedAt(now)
+                .expiration(expiration)
+                .signWith(KEY)
+                .compact();
+
+        // when
+        TokenClaims claims = verifier.verify(token);
+
+        // then
+        assertThat(claims).isNotNull();
+        assertThat(claims.tokenId()).isEqualTo("abc123");
+        assertThat(claims.userId()).isEqualTo("7");
+        assertThat(claims.role()).isEqualTo("ADMIN");
+        assertThat(claims.expiresAt()).isEqualTo(expiration.getTime() / 1000 * 1000);
+    }
+
+    @Test
+    @DisplayName("서명이 다르면 통과시키지 않는다")
+    void verify_WrongSignature() {
+        // given
+        SecretKey otherKey = Keys.hmacShaKeyFor("another-secret-key-for-gateway-claims-cache-98765".getBytes(StandardCharsets.UTF_8));
+        String token = Jwts.builder()
+                .subject("7")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(otherKey)
+                .compact();
+
+        // when & then
+        assertThat(verifier.verify(token)).isNull();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰과 예상하지 못한 클레임이 있는 토큰은 jjwt 에 맡긴다")
+    void verify_FallsBack() {
+        // given
+        String expired = Jwts.builder()
+                .subject("7")
+                .expiration(new Date(System.currentTimeMillis() - 1_000))
+                .signWith(KEY)
+                .compact();
+        String withNotBefore = Jwts.builder()
+                .subject("7")
+                .notBefore(new Date(System.currentTimeMillis() + 60_000))
+                .expiration(new Date(System.currentTimeMillis() + 120_000))
+                .signWith(KEY)
+                .compact();
+
+        // when & then
+        assertThat(verifier.verify(expired)).isNull();
+        assertThat(verifier.verify(withNotBefore)).isNull();
+    }
+}
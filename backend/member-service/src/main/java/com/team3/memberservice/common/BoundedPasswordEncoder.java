@@ -0,0 +1,136 @@
+package com.team3.memberservice.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt 해싱/검증을 요청 스레드가 아닌 전용 스레드(코어 수)에서 실행하는 PasswordEncoder.
+ * 로그인이 몰려도 해싱이 쓰는 CPU 가 스레드 수로 묶이므로 다른 API 는 계속 응답한다.
+ *
+ * - 대기열이 가득 차거나, queue-timeout(요청 마감이 더 빠르면 마감) 안에 시작하지 못하면 PasswordHashingBusyException(503)
+ * - 시작하지 못하고 포기한 작업은 대기열에서 빼서 해싱하지 않는다
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private static final int QUEUED = 0;
+    private static final int RUNNING = 1;
+    private static final int ABANDONED = 2;
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long queueTimeoutNanos;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+    private final Counter queueFullRejections;
+    private final Counter queueTimeoutRejections;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry,
+                                  int threads, int queueCapacity, long queueTimeoutMillis) {
+        this.delegate = delegate;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(queueTimeoutMillis);
+
+        this.encodeTimer = meterRegistry.timer("auth.password.hash", "operation", "encode");
+        this.matchesTimer = meterRegistry.timer("auth.password.hash", "operation", "matches");
+        this.queueWaitTimer = meterRegistry.timer("auth.password.queue.wait");
+        this.queueFullRejections = meterRegistry.counter("auth.password.rejected", "reason", "queue-full");
+        this.queueTimeoutRejections = meterRegistry.counter("auth.password.rejected", "reason", "queue-timeout");
+        Gauge.builder("auth.password.queue.depth", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Supplier<T> work) {
+        long submitted = System.nanoTime();
+        AtomicInteger state = new AtomicInteger(QUEUED);
+        FutureTask<T> task = new FutureTask<>(() -> {
+            if (!state.compareAndSet(QUEUED, RUNNING)) {
+                return null;
+            }
+            queueWaitTimer.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+            return work.get();
+        });
+
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            queueFullRejections.increment();
+            throw new PasswordHashingBusyException();
+        }
+
+        try {
+            try {
+                return task.get(queueBudgetNanos(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                // 아직 시작하지 못했으면 포기하고, 이미 해싱 중이면 끝날 때까지 기다린다
+                if (state.compareAndSet(QUEUED, ABANDONED)) {
+                    executor.remove(task);
+                    queueTimeoutRejections.increment();
+                    throw new PasswordHashingBusyException();
+                }
+                return task.get();
+            }
+        } catch (InterruptedException e) {
+            state.compareAndSet(QUEUED, ABANDONED);
+            executor.remove(task);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // 요청 마감 시각이 queue-timeout 보다 먼저 오면 마감까지만 기다린다
+    private long queueBudgetNanos() {
+        Long deadline = RequestDeadline.get();
+        if (deadline == null) {
+            return queueTimeoutNanos;
+        }
+        long remaining = TimeUnit.MILLISECONDS.toNanos(Math.max(0, deadline - System.currentTimeMillis()));
+        return Math.min(queueTimeoutNanos, remaining);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
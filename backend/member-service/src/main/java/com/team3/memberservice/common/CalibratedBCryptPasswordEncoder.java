@@ -0,0 +1,85 @@
+package com.team3.memberservice.common;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 배포된 하드웨어에서 잰 해싱 시간으로 BCrypt cost 를 정하는 인코더.
+ * cost 는 해시 문자열($2a$<cost>$...)에 남으므로 Member.password 만 보고 현재 cost 와 다른지 알 수 있다.
+ *
+ * - upgradeEncoding 은 저장된 cost 가 현재 cost 보다 낮으면 true, 로그인 성공 시 다시 해싱한다
+ * - 더 높은 cost 는 allowDowngrade 일 때만 낮춘다 (인스턴스마다 보정값이 다르면 로그인마다 cost 가 오가므로 기본은 끔)
+ */
+@Slf4j
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    private final int strength;
+    private final boolean allowDowngrade;
+
+    public CalibratedBCryptPasswordEncoder(int strength) {
+        this(strength, false);
+    }
+
+    public CalibratedBCryptPasswordEncoder(int strength, boolean allowDowngrade) {
+        super(strength);
+        this.strength = strength;
+        this.allowDowngrade = allowDowngrade;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        Integer cost = costOf(encodedPassword);
+        if (cost == null) {
+            return false;
+        }
+        return cost < strength || (allowDowngrade && cost > strength);
+    }
+
+    // BCrypt 해시가 아니면 null
+    public static Integer costOf(String encodedPassword) {
+        if (encodedPassword == null) {
+            return null;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : null;
+    }
+
+    // 한 번 해싱하는 데 targetMillis 를 넘지 않는 가장 큰 cost (minStrength ~ maxStrength)
+    // cost 가 1 오를 때마다 시간이 두 배가 되므로 넘는 순간 멈춘다
+    public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        int chosen = minStrength;
+        for (int cost = minStrength; cost <= maxStrength; cost++) {
+            long elapsed = measureMillis(cost);
+            log.debug("BCrypt cost {} took {}ms", cost, elapsed);
+            if (elapsed > targetMillis) {
+                break;
+            }
+            chosen = cost;
+        }
+        log.info("BCrypt cost calibrated to {} (target {}ms)", chosen, targetMillis);
+        return chosen;
+    }
+
+    // JIT 워밍업을 위해 한 번 버리고, 두 번 잰 값 중 작은 값
+    private static long measureMillis(int cost) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        encoder.encode(CALIBRATION_PASSWORD);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 2; i++) {
+            long start = System.nanoTime();
+            encoder.encode(CALIBRATION_PASSWORD);
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000);
+        }
+        return best;
+    }
+}
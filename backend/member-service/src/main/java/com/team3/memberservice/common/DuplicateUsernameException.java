@@ -0,0 +1,14 @@
+package com.team3.memberservice.common;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// members.username 유니크 제약 위반 (동시에 같은 아이디로 가입한 경우 포함)
+@ResponseStatus(HttpStatus.CONFLICT)
+public class DuplicateUsernameException extends DuplicateKeyException {
+
+    public DuplicateUsernameException(Throwable cause) {
+        super("이미 존재하는 아이디입니다.", cause);
+    }
+}
@@ -0,0 +1,13 @@
+package com.team3.memberservice.common;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 없거나 만료됐거나 이미 회전된(재사용) 리프레시 토큰 (다시 로그인해야 한다)
+@ResponseStatus(HttpStatus.UNAUTHORIZED)
+public class InvalidRefreshTokenException extends RuntimeException {
+
+    public InvalidRefreshTokenException() {
+        super("유효하지 않은 리프레시 토큰입니다. 다시 로그인해 주세요.");
+    }
+}
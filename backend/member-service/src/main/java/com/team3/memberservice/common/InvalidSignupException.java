@@ -0,0 +1,13 @@
+package com.team3.memberservice.common;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 아이디 중복이 아닌 제약 위반 (역할 누락, 길이 초과 등 요청 값이 잘못된 경우)
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidSignupException extends RuntimeException {
+
+    public InvalidSignupException(Throwable cause) {
+        super("회원가입 정보가 올바르지 않습니다.", cause);
+    }
+}
@@ -0,0 +1,13 @@
+package com.team3.memberservice.common;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 비밀번호 해싱 스레드가 모두 바빠 대기 시간 안에 처리하지 못한 경우 (잠시 후 재시도)
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException() {
+        super("로그인 요청이 많아 잠시 후 다시 시도해 주세요.");
+    }
+}
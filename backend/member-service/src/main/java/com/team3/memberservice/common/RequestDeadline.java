@@ -0,0 +1,28 @@
+package com.team3.memberservice.common;
+
+/**
+ * 요청 마감 시각(epoch ms)을 요청 스레드에 보관한다.
+ * 게이트웨이가 X-Request-Deadline 헤더로 넣어주며, RequestDeadlineInterceptor 가 요청마다 채우고 비운다.
+ */
+public final class RequestDeadline {
+
+    public static final String HEADER = "X-Request-Deadline";
+
+    private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    public static void set(long epochMillis) {
+        DEADLINE.set(epochMillis);
+    }
+
+    public static void clear() {
+        DEADLINE.remove();
+    }
+
+    // 마감 시각이 없으면(스케줄러, 게이트웨이를 거치지 않은 호출) null
+    public static Long get() {
+        return DEADLINE.get();
+    }
+}
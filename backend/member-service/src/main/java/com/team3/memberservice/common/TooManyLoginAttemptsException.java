@@ -0,0 +1,13 @@
+package com.team3.memberservice.common;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 같은 아이디 또는 같은 IP 의 로그인 실패가 한도를 넘은 경우 (비밀번호 확인 없이 거절)
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class TooManyLoginAttemptsException extends RuntimeException {
+
+    public TooManyLoginAttemptsException() {
+        super("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+    }
+}
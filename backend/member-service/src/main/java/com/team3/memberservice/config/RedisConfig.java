@@ -1,10 +1,14 @@
 package com.team3.memberservice.config;
 
+import com.team3.memberservice.service.UsernameAvailabilityService;
+import com.team3.memberservice.util.RedisKeyUtil;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 @Configuration
 public class RedisConfig {
@@ -20,4 +24,16 @@ public class RedisConfig {
         return new LettuceConnectionFactory(host, port);
     }
 
+    // 다른 인스턴스에서 가입한 아이디를 Bloom filter 에 반영
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            UsernameAvailabilityService usernameAvailabilityService
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(usernameAvailabilityService, new ChannelTopic(RedisKeyUtil.getUsernameChannel()));
+        return container;
+    }
+
 }
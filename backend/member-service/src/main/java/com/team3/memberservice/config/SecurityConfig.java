@@ -1,13 +1,17 @@
 package com.team3.memberservice.config;
 
+import com.team3.memberservice.common.BoundedPasswordEncoder;
+import com.team3.memberservice.common.CalibratedBCryptPasswordEncoder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
@@ -15,9 +19,25 @@ import org.springframework.security.web.SecurityFilterChain;
 @EnableWebSecurity
 public class SecurityConfig {
 
+    // BCrypt 는 요청 스레드가 아닌 전용 스레드에서 실행 (threads 가 0 이면 코어 수)
+    // cost 는 strength 로 고정하거나, 0 이면 시작할 때 target-latency 에 맞춰 정한다
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${auth.password.threads:0}") int threads,
+            @Value("${auth.password.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.password.queue-timeout:500}") long queueTimeoutMillis,
+            @Value("${auth.password.bcrypt.strength:0}") int strength,
+            @Value("${auth.password.bcrypt.target-latency:250}") long targetLatencyMillis,
+            @Value("${auth.password.bcrypt.min-strength:10}") int minStrength,
+            @Value("${auth.password.bcrypt.max-strength:14}") int maxStrength,
+            @Value("${auth.password.bcrypt.allow-downgrade:false}") boolean allowDowngrade
+    ) {
+        int cost = strength > 0 ? strength : CalibratedBCryptPasswordEncoder.calibrate(targetLatencyMillis, minStrength, maxStrength);
+        Gauge.builder("auth.password.bcrypt.cost", () -> cost).register(meterRegistry);
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new CalibratedBCryptPasswordEncoder(cost, allowDowngrade), meterRegistry, poolSize, queueCapacity, queueTimeoutMillis);
     }
 
     @Bean
@@ -1,6 +1,7 @@
 package com.team3.memberservice.config;
 
 import com.team3.memberservice.interceptor.InternalSecretInterceptor;
+import com.team3.memberservice.interceptor.RequestDeadlineInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -11,11 +12,15 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebConfig implements WebMvcConfigurer {
 
     private final InternalSecretInterceptor internalSecretInterceptor;
+    private final RequestDeadlineInterceptor requestDeadlineInterceptor;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        // 게이트웨이가 넣어준 요청 마감 시각 (모든 요청)
+        registry.addInterceptor(requestDeadlineInterceptor);
+
         registry.addInterceptor(internalSecretInterceptor)
-                .addPathPatterns("/member")
+                .addPathPatterns("/member", "/member/**")
                 .excludePathPatterns("/auth/**");
     }
 
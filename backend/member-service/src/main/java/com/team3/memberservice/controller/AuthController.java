@@ -1,19 +1,24 @@
 package com.team3.memberservice.controller;
 
 import com.team3.memberservice.dto.request.LoginDTO;
+import com.team3.memberservice.dto.request.RefreshTokenDTO;
 import com.team3.memberservice.dto.request.SignupDTO;
 import com.team3.memberservice.dto.response.ApiResponse;
+import com.team3.memberservice.dto.response.TokenResponseDTO;
 import com.team3.memberservice.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -29,17 +34,41 @@ public class AuthController {
         return ResponseEntity.status(HttpStatus.CREATED).body(authService.createUser(signupDTO));
     }
 
+    @GetMapping("/check-username")
+    @Operation(summary = "아이디 사용 가능 여부 (data: true 면 사용 가능)")
+    public ResponseEntity<ApiResponse<Boolean>> checkUsername(@RequestParam("username") String username) {
+        return ResponseEntity.ok(authService.checkUsername(username));
+    }
+
     @PostMapping("/login")
     @Operation(summary = "로그인")
-    public ResponseEntity<ApiResponse<String>> login(@RequestBody LoginDTO loginDTO) {
-        return ResponseEntity.ok(authService.login(loginDTO));
+    public ResponseEntity<ApiResponse<TokenResponseDTO>> login(@RequestBody LoginDTO loginDTO, HttpServletRequest request) {
+        return ResponseEntity.ok(authService.login(loginDTO, clientIp(request)));
+    }
+
+    @PostMapping("/refresh")
+    @Operation(summary = "액세스 토큰 재발급 (리프레시 토큰 회전)")
+    public ResponseEntity<ApiResponse<TokenResponseDTO>> refresh(@RequestBody RefreshTokenDTO refreshTokenDTO) {
+        return ResponseEntity.ok(authService.refresh(refreshTokenDTO.refreshToken()));
+    }
+
+    // 게이트웨이가 X-Forwarded-For 끝에 붙인 값이 게이트웨이가 본 클라이언트 주소 (앞쪽은 클라이언트가 임의로 넣을 수 있다)
+    private String clientIp(HttpServletRequest request) {
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor != null && !forwardedFor.isBlank()) {
+            String[] addresses = forwardedFor.split(",");
+            return addresses[addresses.length - 1].trim();
+        }
+        return request.getRemoteAddr();
     }
 
     @PostMapping("/logout")
     @Operation(summary = "로그아웃")
     @SecurityRequirement(name="JWT")
-    public ResponseEntity<ApiResponse<String>> logout(@Parameter(hidden = true) @RequestHeader("Authorization") String token) {
-        if(authService.logout(token)) {
+    public ResponseEntity<ApiResponse<String>> logout(@Parameter(hidden = true) @RequestHeader("Authorization") String token,
+                                                      @RequestBody(required = false) RefreshTokenDTO refreshTokenDTO) {
+        String refreshToken = refreshTokenDTO != null ? refreshTokenDTO.refreshToken() : null;
+        if(authService.logout(token, refreshToken)) {
             return ResponseEntity.noContent().build();
         }
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
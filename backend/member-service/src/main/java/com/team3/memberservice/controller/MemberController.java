@@ -1,6 +1,7 @@
 package com.team3.memberservice.controller;
 
-import com.team3.memberservice.dto.request.SignupDTO;
+import com.team3.memberservice.dto.response.ApiResponse;
+import com.team3.memberservice.dto.response.UserInfoDTO;
 import com.team3.memberservice.service.MemberService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,8 +13,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @Slf4j
 @RestController
 @RequestMapping("/member")
@@ -31,5 +35,12 @@ public class MemberController {
         return ResponseEntity.ok(memberService.getInformation(userId));
     }
 
+    // 다른 서비스가 랭킹/피드/QnA 목록에 아이디를 붙일 때 한 번에 조회 (?ids=1,2,3)
+    @GetMapping("/batch")
+    @Operation(summary = "회원 여러 명 조회")
+    public ResponseEntity<ApiResponse<List<UserInfoDTO>>> getInformations(@RequestParam("ids") List<Long> ids) {
+        return ResponseEntity.ok(memberService.getInformations(ids));
+    }
+
 
 }
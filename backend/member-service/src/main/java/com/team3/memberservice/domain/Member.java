@@ -44,5 +44,10 @@ public class Member extends BaseEntity {
         this.role = role;
     }
 
+    // 로그인 시 현재 BCrypt cost 로 다시 해싱한 비밀번호로 교체
+    public void changePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
 }
 
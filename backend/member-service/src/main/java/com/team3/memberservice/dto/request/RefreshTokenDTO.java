@@ -0,0 +1,9 @@
+package com.team3.memberservice.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenDTO(
+        @NotBlank(message = "리프레시 토큰은 빈 값일 수 없습니다.")
+        String refreshToken
+) {
+}
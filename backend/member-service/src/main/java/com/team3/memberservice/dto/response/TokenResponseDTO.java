@@ -3,10 +3,12 @@ package com.team3.memberservice.dto.response;
 import lombok.Builder;
 
 public record TokenResponseDTO(
-        String accessToken
+        String accessToken,
+        String refreshToken
 ) {
     @Builder
-    public TokenResponseDTO(String accessToken) {
+    public TokenResponseDTO(String accessToken, String refreshToken) {
         this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
     }
 }
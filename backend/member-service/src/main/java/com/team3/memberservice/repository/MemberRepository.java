@@ -1,10 +1,22 @@
 package com.team3.memberservice.repository;
 
 import com.team3.memberservice.domain.Member;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findMemberByUsername(String username);
+
+    boolean existsByUsername(String username);
+
+    // 아이디 Bloom filter 재구성용. 엔티티를 만들지 않고 아이디만 나눠서 읽는다 (트랜잭션 안에서 사용)
+    @Query("select m.username from Member m")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<String> streamAllUsernames();
 }
@@ -1,64 +1,149 @@
 package com.team3.memberservice.service;
 
+import com.team3.memberservice.common.DuplicateUsernameException;
+import com.team3.memberservice.common.InvalidRefreshTokenException;
+import com.team3.memberservice.common.InvalidSignupException;
+import com.team3.memberservice.common.PasswordHashingBusyException;
 import com.team3.memberservice.domain.Member;
 import com.team3.memberservice.dto.request.LoginDTO;
 import com.team3.memberservice.dto.request.SignupDTO;
 import com.team3.memberservice.dto.response.ApiResponse;
+import com.team3.memberservice.dto.response.TokenResponseDTO;
 import com.team3.memberservice.repository.MemberRepository;
 import com.team3.memberservice.util.JwtUtil;
 import com.team3.memberservice.util.RedisKeyUtil;
+import com.team3.memberservice.util.TokenDigest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.DuplicateKeyException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
 import java.util.concurrent.TimeUnit;
 
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AuthService {
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+    private static final String UNIQUE_VIOLATION = "23505";
+
     private final JwtUtil jwtUtil;
     private final PasswordEncoder passwordEncoder;
     private final MemberRepository memberRepository;
     private final StringRedisTemplate redisTemplate;
+    private final RefreshTokenService refreshTokenService;
+    private final LoginAttemptService loginAttemptService;
+    private final UsernameAvailabilityService usernameAvailabilityService;
 
+    // 중복 확인을 따로 하지 않고 insert 한 번으로 끝낸다 (동시에 같은 아이디로 가입해도 유니크 제약이 하나만 통과시킨다)
     @Transactional
     public ApiResponse<?> createUser(SignupDTO signupDTO){
-        boolean check = memberRepository.findMemberByUsername(signupDTO.id()).isPresent();
-        if(check){
-            throw new DuplicateKeyException("이미 존재하는 아이디입니다.");
-        }
-
         Member member = Member.builder()
                 .username(signupDTO.id())
                 .password(passwordEncoder.encode(signupDTO.password()))
                 .role(signupDTO.role())
                 .build();
 
-        Long id = memberRepository.save(member).getUserId();
+        Long id;
+        try {
+            id = memberRepository.saveAndFlush(member).getUserId();
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateKey(e)) {
+                throw new DuplicateUsernameException(e);
+            }
+            throw new InvalidSignupException(e);
+        }
+        usernameAvailabilityService.add(member.getUsername());
 
         String accessToken = jwtUtil.createToken(id, String.valueOf(member.getRole()));
 
         return ApiResponse.success(accessToken);
     }
 
-    public ApiResponse<String> login(LoginDTO loginDTO) {
-        Member member = memberRepository.findMemberByUsername(loginDTO.id())
-                .orElseThrow(() -> new IllegalArgumentException("가입되지 않은 아이디입니다."));
+    // members 의 유니크 키는 username 뿐이므로 중복 키 오류면 아이디 중복 (MySQL 1062, 표준 SQLState 23505)
+    // NOT NULL, 길이 초과 등 다른 제약 위반은 SQLState 23000 을 같이 쓰므로 오류 코드로 구분한다
+    private static boolean isDuplicateKey(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                    && (sqlException.getErrorCode() == MYSQL_DUPLICATE_ENTRY || UNIQUE_VIOLATION.equals(sqlException.getSQLState()))) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
 
+    public ApiResponse<Boolean> checkUsername(String username) {
+        return ApiResponse.success(usernameAvailabilityService.isAvailable(username));
+    }
+
+    // clientIp: 게이트웨이를 거치지 않은 호출 등으로 알 수 없으면 null
+    // 트랜잭션 없이 실행한다. 거절할 요청이 DB 커넥션을 잡지 않고, BCrypt 확인 동안에도 커넥션을 쥐고 있지 않도록
+    // (회원 조회와 다시 해싱한 비밀번호 저장은 리포지토리가 각자 짧은 트랜잭션으로 처리)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ApiResponse<TokenResponseDTO> login(LoginDTO loginDTO, String clientIp) {
+        // 1. 실패가 너무 많은 아이디/IP 는 회원 조회와 비밀번호 확인 전에 거절
+        loginAttemptService.checkAllowed(loginDTO.id(), clientIp);
+
+        Member member = memberRepository.findMemberByUsername(loginDTO.id()).orElse(null);
+        if (member == null) {
+            loginAttemptService.recordFailure(loginDTO.id(), clientIp);
+            throw new IllegalArgumentException("가입되지 않은 아이디입니다.");
+        }
+
+        // 2. 비밀번호 확인
         if (!passwordEncoder.matches(loginDTO.password(), member.getPassword())) {
+            loginAttemptService.recordFailure(loginDTO.id(), clientIp);
             throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
         }
+        loginAttemptService.recordSuccess(loginDTO.id());
+        rehashIfNeeded(member, loginDTO.password());
 
         // 3. 토큰 발급
+        String role = String.valueOf(member.getRole());
+        String accessToken = jwtUtil.createToken(member.getUserId(), role);
+        String refreshToken = refreshTokenService.issue(member.getUserId());
+
+        return ApiResponse.success(new TokenResponseDTO(accessToken, refreshToken));
+    }
+
+    // 액세스 토큰 재발급. 비밀번호 검증(BCrypt) 없이 리프레시 토큰을 회전시키고 새 액세스 토큰을 서명한다
+    // role 은 로그인 이후 바뀌었을 수 있으므로 회원 정보에서 다시 읽는다 (PK 조회 한 번, Redis 호출 동안 커넥션을 잡지 않도록 트랜잭션 없이)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ApiResponse<TokenResponseDTO> refresh(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+        Member member = memberRepository.findById(rotation.userId()).orElse(null);
+        if (member == null) {
+            // 탈퇴한 회원의 계열은 지운다
+            refreshTokenService.revoke(rotation.refreshToken());
+            throw new InvalidRefreshTokenException();
+        }
         String accessToken = jwtUtil.createToken(member.getUserId(), String.valueOf(member.getRole()));
 
-        return ApiResponse.success(accessToken);
+        return ApiResponse.success(new TokenResponseDTO(accessToken, rotation.refreshToken()));
+    }
+
+    // 저장된 해시의 cost 를 올려야 하면(upgradeEncoding) 평문을 아는 지금 다시 해싱 (바쁘면 다음 로그인으로 미룬다)
+    private void rehashIfNeeded(Member member, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(member.getPassword())) {
+            return;
+        }
+        try {
+            member.changePassword(passwordEncoder.encode(rawPassword));
+            memberRepository.save(member);
+        } catch (PasswordHashingBusyException e) {
+            log.debug("Skipping password rehash for user {}: hashing pool busy", member.getUserId());
+        }
     }
 
     public boolean logout(String accessToken) {
@@ -66,12 +151,24 @@ public class AuthService {
         Long expiration = jwtUtil.getExpiration(token);
 
         if (expiration > 0) {
-            String key = RedisKeyUtil.getBlackListKey(token);
+            // 토큰 원문 대신 고정 길이 jti 를 키로 사용 (jti 가 없는 이전 토큰은 다이제스트)
+            String tokenId = jwtUtil.getTokenId(token);
+            String key = RedisKeyUtil.getBlackListKey(tokenId != null ? tokenId : TokenDigest.of(token));
             redisTemplate.opsForValue()
                     .set(key, "logout", expiration, TimeUnit.MILLISECONDS);
+            // 게이트웨이 블랙리스트 니어 캐시 갱신용 이벤트
+            redisTemplate.convertAndSend(RedisKeyUtil.getBlackListChannel(), key);
         }
 
         return true;
     }
 
+    // 로그아웃한 기기의 리프레시 토큰도 함께 폐기
+    public boolean logout(String accessToken, String refreshToken) {
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenService.revoke(refreshToken);
+        }
+        return logout(accessToken);
+    }
+
 }
@@ -0,0 +1,192 @@
+package com.team3.memberservice.service;
+
+import com.team3.memberservice.common.TooManyLoginAttemptsException;
+import com.team3.memberservice.util.RedisKeyUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 아이디별 / IP 별 로그인 실패 횟수 제한.
+ * 회원 조회와 BCrypt 검증 전에 확인하므로, 크리덴셜 스터핑이 몰려도 해싱 CPU 로 이어지지 않는다.
+ *
+ * - 실패 횟수는 Redis 의 슬라이딩 윈도우 카운터(LA:<scope>:<id>:<구간>)로 인스턴스끼리 공유
+ * - 한도를 넘은 아이디/IP 는 잠금이 풀릴 때까지 로컬 맵에서 바로 거절 (Redis 도 호출하지 않음)
+ * - 로그인에 성공하면 그 아이디의 실패 횟수를 지운다
+ * - Redis 장애 시에는 로그인을 막지 않는다
+ */
+@Slf4j
+@Service
+public class LoginAttemptService {
+
+    private static final String USER = "user";
+    private static final String IP = "ip";
+    private static final int MAX_LOCAL_LOCKOUTS = 100_000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisScript<Long> recordScript;
+    private final long windowMillis;
+    private final int maxFailuresPerUser;
+    private final int maxFailuresPerIp;
+
+    // "<scope>:<id>" -> 잠금 해제 시각(epoch ms)
+    private final ConcurrentHashMap<String, Long> localLockouts = new ConcurrentHashMap<>();
+
+    private final Counter rejectedLocal;
+    private final Counter rejectedRedis;
+    private final Counter userFailures;
+    private final Counter ipFailures;
+    private final Counter redisErrors;
+
+    public LoginAttemptService(
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${auth.login-throttle.window:900000}") long windowMillis,
+            @Value("${auth.login-throttle.max-failures-per-user:5}") int maxFailuresPerUser,
+            @Value("${auth.login-throttle.max-failures-per-ip:50}") int maxFailuresPerIp
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.recordScript = RedisScript.of(new ClassPathResource("scripts/record_login_failure.lua"), Long.class);
+        this.windowMillis = windowMillis;
+        this.maxFailuresPerUser = maxFailuresPerUser;
+        this.maxFailuresPerIp = maxFailuresPerIp;
+
+        this.rejectedLocal = meterRegistry.counter("auth.login.throttle", "result", "rejected-local");
+        this.rejectedRedis = meterRegistry.counter("auth.login.throttle", "result", "rejected-redis");
+        this.userFailures = meterRegistry.counter("auth.login.failures", "scope", USER);
+        this.ipFailures = meterRegistry.counter("auth.login.failures", "scope", IP);
+        this.redisErrors = meterRegistry.counter("auth.login.throttle.redis.errors");
+        Gauge.builder("auth.login.lockouts", localLockouts, ConcurrentHashMap::size)
+                .register(meterRegistry);
+    }
+
+    // 한도를 넘었으면 TooManyLoginAttemptsException (clientIp 를 모르면 아이디만 본다)
+    public void checkAllowed(String username, String clientIp) {
+        long now = System.currentTimeMillis();
+        if (isLockedLocally(USER, username, now) || (clientIp != null && isLockedLocally(IP, clientIp, now))) {
+            rejectedLocal.increment();
+            throw new TooManyLoginAttemptsException();
+        }
+
+        long window = now / windowMillis;
+        long elapsed = now % windowMillis;
+        List<String> keys = new ArrayList<>(4);
+        keys.add(RedisKeyUtil.getLoginAttemptKey(USER, username, window));
+        keys.add(RedisKeyUtil.getLoginAttemptKey(USER, username, window - 1));
+        if (clientIp != null) {
+            keys.add(RedisKeyUtil.getLoginAttemptKey(IP, clientIp, window));
+            keys.add(RedisKeyUtil.getLoginAttemptKey(IP, clientIp, window - 1));
+        }
+
+        List<String> counts;
+        try {
+            counts = redisTemplate.opsForValue().multiGet(keys);
+        } catch (DataAccessException e) {
+            redisErrors.increment();
+            log.warn("Login throttle check skipped, Redis unavailable: {}", e.getMessage());
+            return;
+        }
+        if (counts == null) {
+            return;
+        }
+
+        boolean userLocked = estimate(counts.get(0), counts.get(1), elapsed) >= maxFailuresPerUser;
+        boolean ipLocked = clientIp != null && estimate(counts.get(2), counts.get(3), elapsed) >= maxFailuresPerIp;
+        if (userLocked || ipLocked) {
+            if (userLocked) {
+                lockLocally(USER, username, now);
+            }
+            if (ipLocked) {
+                lockLocally(IP, clientIp, now);
+            }
+            rejectedRedis.increment();
+            throw new TooManyLoginAttemptsException();
+        }
+    }
+
+    public void recordFailure(String username, String clientIp) {
+        long now = System.currentTimeMillis();
+        userFailures.increment();
+        if (record(USER, username, now) >= maxFailuresPerUser) {
+            lockLocally(USER, username, now);
+        }
+        if (clientIp != null) {
+            ipFailures.increment();
+            if (record(IP, clientIp, now) >= maxFailuresPerIp) {
+                lockLocally(IP, clientIp, now);
+            }
+        }
+    }
+
+    public void recordSuccess(String username) {
+        long window = System.currentTimeMillis() / windowMillis;
+        try {
+            redisTemplate.delete(List.of(
+                    RedisKeyUtil.getLoginAttemptKey(USER, username, window),
+                    RedisKeyUtil.getLoginAttemptKey(USER, username, window - 1)
+            ));
+        } catch (DataAccessException e) {
+            redisErrors.increment();
+            log.warn("Failed to reset login failures: {}", e.getMessage());
+        }
+    }
+
+    private long record(String scope, String id, long now) {
+        long window = now / windowMillis;
+        try {
+            Long estimate = redisTemplate.execute(
+                    recordScript,
+                    List.of(RedisKeyUtil.getLoginAttemptKey(scope, id, window),
+                            RedisKeyUtil.getLoginAttemptKey(scope, id, window - 1)),
+                    String.valueOf(windowMillis),
+                    String.valueOf(now % windowMillis)
+            );
+            return estimate != null ? estimate : 0;
+        } catch (DataAccessException e) {
+            redisErrors.increment();
+            log.warn("Failed to record login failure: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    // 이전 구간은 현재 구간과 겹치는 비율만큼만 센다
+    private long estimate(String current, String previous, long elapsed) {
+        long currentCount = current != null ? Long.parseLong(current) : 0;
+        long previousCount = previous != null ? Long.parseLong(previous) : 0;
+        return previousCount * (windowMillis - elapsed) / windowMillis + currentCount;
+    }
+
+    private boolean isLockedLocally(String scope, String id, long now) {
+        String key = scope + ":" + id;
+        Long until = localLockouts.get(key);
+        if (until == null) {
+            return false;
+        }
+        if (until <= now) {
+            localLockouts.remove(key, until);
+            return false;
+        }
+        return true;
+    }
+
+    // 추정치가 한도 아래로 내려가는 시점을 정확히 알 수 없으므로 한 구간 동안 잠근다
+    private void lockLocally(String scope, String id, long now) {
+        if (localLockouts.size() >= MAX_LOCAL_LOCKOUTS) {
+            localLockouts.values().removeIf(until -> until <= now);
+        }
+        if (localLockouts.size() < MAX_LOCAL_LOCKOUTS) {
+            localLockouts.put(scope + ":" + id, now + windowMillis);
+        }
+    }
+}
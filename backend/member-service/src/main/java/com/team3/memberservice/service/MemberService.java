@@ -1,19 +1,52 @@
 package com.team3.memberservice.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.team3.memberservice.common.BatchSizeExceededException;
 import com.team3.memberservice.domain.Member;
 import com.team3.memberservice.dto.response.ApiResponse;
 import com.team3.memberservice.dto.response.UserInfoDTO;
 import com.team3.memberservice.repository.MemberRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @Service
 @Transactional(readOnly = true)
-@RequiredArgsConstructor
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    // 다른 서비스가 목록에 아이디를 붙일 때 쓰는 프로필 캐시 (아이디/역할은 바뀌지 않는다)
+    private final Cache<Long, UserInfoDTO> profileCache;
+    private final int maxBatchSize;
+
+    public MemberService(
+            MemberRepository memberRepository,
+            MeterRegistry meterRegistry,
+            @Value("${member.profile-cache.max-size:10000}") long maxSize,
+            @Value("${member.profile-cache.ttl:10m}") Duration ttl,
+            @Value("${member.batch.max-size:500}") int maxBatchSize
+    ) {
+        this.memberRepository = memberRepository;
+        this.profileCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.maxBatchSize = maxBatchSize;
+        CaffeineCacheMetrics.monitor(meterRegistry, profileCache, "member.profile");
+    }
 
     public ApiResponse<?> getInformation(Long userId) {
 
@@ -29,4 +62,37 @@ public class MemberService {
         );
 
     }
+
+    // 캐시에 없는 것만 IN 쿼리 한 번으로 읽는다. 없는 회원은 결과에서 빠지고, 순서는 요청한 ids 순서
+    public ApiResponse<List<UserInfoDTO>> getInformations(Collection<Long> userIds) {
+        Set<Long> ids = new LinkedHashSet<>(userIds);
+        if (ids.size() > maxBatchSize) {
+            throw new BatchSizeExceededException(maxBatchSize);
+        }
+
+        Map<Long, UserInfoDTO> found = profileCache.getAll(ids, missing -> {
+            Map<Long, UserInfoDTO> loaded = new HashMap<>();
+            for (Member member : memberRepository.findAllById(missing)) {
+                loaded.put(member.getUserId(), toUserInfo(member));
+            }
+            return loaded;
+        });
+
+        List<UserInfoDTO> result = new ArrayList<>(found.size());
+        for (Long id : ids) {
+            UserInfoDTO info = found.get(id);
+            if (info != null) {
+                result.add(info);
+            }
+        }
+        return ApiResponse.success(result);
+    }
+
+    private UserInfoDTO toUserInfo(Member member) {
+        return UserInfoDTO.builder()
+                .userId(member.getUserId())
+                .username(member.getUsername())
+                .role(String.valueOf(member.getRole()))
+                .build();
+    }
 }
@@ -0,0 +1,149 @@
+package com.team3.memberservice.service;
+
+import com.team3.memberservice.common.InvalidRefreshTokenException;
+import com.team3.memberservice.util.RedisKeyUtil;
+import com.team3.memberservice.util.TokenDigest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회전하는 리프레시 토큰.
+ * 토큰은 "<userId>.<familyId>.<secret>" 형태이고, Redis(RT:<userId>:<familyId>)에는 원문 대신 다이제스트만 저장한다.
+ *
+ * - 갱신할 때마다 새 토큰을 발급하고 이전 토큰은 쓸 수 없게 된다 (Lua 로 비교/교체를 한 번에)
+ * - 유예 시간 안에 직전 토큰이 다시 들어오면(동시 갱신, 응답 유실 후 재시도) 이미 발급한 다음 토큰을 다시 준다
+ * - 그 밖에 이미 회전된 토큰이 다시 들어오면 탈취로 보고 같은 계열을 폐기한다 (정상 사용자도 다시 로그인)
+ * - 갱신에는 BCrypt 가 없다 (Redis 호출 한 번, role 은 AuthService 가 회원 정보에서 다시 읽는다)
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final String GRACE_PREFIX = "GRACE ";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisScript<String> rotateScript;
+    private final long refreshTokenExpTime;
+    private final long gracePeriod;
+
+    private final Counter rotated;
+    private final Counter graced;
+    private final Counter reused;
+    private final Counter unknown;
+
+    public RefreshTokenService(
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.refresh-expiration:1209600000}") long refreshTokenExpTime,
+            @Value("${auth.refresh.grace-period:10000}") long gracePeriod
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.rotateScript = RedisScript.of(new ClassPathResource("scripts/rotate_refresh_token.lua"), String.class);
+        this.refreshTokenExpTime = refreshTokenExpTime;
+        this.gracePeriod = gracePeriod;
+        this.rotated = meterRegistry.counter("auth.refresh", "result", "rotated");
+        this.graced = meterRegistry.counter("auth.refresh", "result", "grace");
+        this.reused = meterRegistry.counter("auth.refresh", "result", "reused");
+        this.unknown = meterRegistry.counter("auth.refresh", "result", "unknown");
+    }
+
+    // 로그인 시 새 계열을 만든다
+    public String issue(Long userId) {
+        String familyId = randomId(16);
+        String token = format(userId, familyId);
+        redisTemplate.opsForValue().set(
+                RedisKeyUtil.getRefreshTokenKey(userId, familyId),
+                TokenDigest.of(token),
+                refreshTokenExpTime,
+                TimeUnit.MILLISECONDS
+        );
+        return token;
+    }
+
+    public Rotation rotate(String refreshToken) {
+        ParsedToken parsed = parse(refreshToken);
+        String next = format(parsed.userId(), parsed.familyId());
+
+        String result = redisTemplate.execute(
+                rotateScript,
+                List.of(
+                        RedisKeyUtil.getRefreshTokenKey(parsed.userId(), parsed.familyId()),
+                        RedisKeyUtil.getRefreshTokenGraceKey(parsed.userId(), parsed.familyId())
+                ),
+                TokenDigest.of(refreshToken),
+                TokenDigest.of(next),
+                next,
+                String.valueOf(refreshTokenExpTime),
+                String.valueOf(gracePeriod)
+        );
+
+        if (result == null || "UNKNOWN".equals(result)) {
+            unknown.increment();
+            throw new InvalidRefreshTokenException();
+        }
+        if ("REUSED".equals(result)) {
+            reused.increment();
+            log.warn("Refresh token reuse detected, revoked family for user {}", parsed.userId());
+            throw new InvalidRefreshTokenException();
+        }
+        if (result.startsWith(GRACE_PREFIX)) {
+            graced.increment();
+            return new Rotation(parsed.userId(), result.substring(GRACE_PREFIX.length()));
+        }
+        rotated.increment();
+        return new Rotation(parsed.userId(), next);
+    }
+
+    // 로그아웃한 기기의 계열만 지운다 (형식이 틀린 토큰은 무시)
+    public void revoke(String refreshToken) {
+        try {
+            ParsedToken parsed = parse(refreshToken);
+            redisTemplate.delete(List.of(
+                    RedisKeyUtil.getRefreshTokenKey(parsed.userId(), parsed.familyId()),
+                    RedisKeyUtil.getRefreshTokenGraceKey(parsed.userId(), parsed.familyId())
+            ));
+        } catch (InvalidRefreshTokenException e) {
+            log.debug("Ignoring malformed refresh token on logout");
+        }
+    }
+
+    private String format(Long userId, String familyId) {
+        return userId + "." + familyId + "." + randomId(32);
+    }
+
+    private ParsedToken parse(String refreshToken) {
+        String[] parts = refreshToken == null ? new String[0] : refreshToken.split("\\.");
+        if (parts.length != 3 || parts[1].isEmpty() || parts[2].isEmpty()) {
+            throw new InvalidRefreshTokenException();
+        }
+        try {
+            return new ParsedToken(Long.parseLong(parts[0]), parts[1]);
+        } catch (NumberFormatException e) {
+            throw new InvalidRefreshTokenException();
+        }
+    }
+
+    private static String randomId(int bytes) {
+        byte[] buffer = new byte[bytes];
+        RANDOM.nextBytes(buffer);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer);
+    }
+
+    private record ParsedToken(Long userId, String familyId) {
+    }
+
+    public record Rotation(Long userId, String refreshToken) {
+    }
+}
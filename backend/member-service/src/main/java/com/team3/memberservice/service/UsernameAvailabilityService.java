@@ -0,0 +1,125 @@
+package com.team3.memberservice.service;
+
+import com.team3.memberservice.common.BloomFilter;
+import com.team3.memberservice.repository.MemberRepository;
+import com.team3.memberservice.util.RedisKeyUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+/**
+ * 사용 중인 아이디 Bloom filter.
+ * 없다고 나오면 MySQL 을 보지 않고 사용 가능으로 답하고, 있을 수도 있다고 나올 때만 DB 를 확인한다.
+ *
+ * - 시작할 때 members 의 아이디를 스트리밍으로 읽어 만든다 (다 만들기 전에는 항상 DB 확인)
+ * - 가입하면 추가하고 Redis 채널로 다른 인스턴스에도 알린다
+ * - 가입 자체는 필터와 무관하게 username 유니크 제약으로 판단한다 (필터는 조회용)
+ */
+@Slf4j
+@Service
+public class UsernameAvailabilityService implements MessageListener {
+
+    private final MemberRepository memberRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long expectedInsertions;
+    private final double fpp;
+
+    private volatile BloomFilter filter;
+    // 재구성 중인 필터 (그 사이 가입한 아이디도 넣어서 빠지지 않게)
+    private volatile BloomFilter building;
+
+    private final Counter filterHits;
+    private final Counter databaseChecks;
+
+    public UsernameAvailabilityService(
+            MemberRepository memberRepository,
+            StringRedisTemplate redisTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${auth.username-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${auth.username-filter.fpp:0.01}") double fpp
+    ) {
+        this.memberRepository = memberRepository;
+        this.redisTemplate = redisTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+        this.filterHits = meterRegistry.counter("auth.username.check", "source", "filter");
+        this.databaseChecks = meterRegistry.counter("auth.username.check", "source", "database");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        BloomFilter rebuilt = new BloomFilter(expectedInsertions, fpp);
+        building = rebuilt;
+        try {
+            Long count = readOnlyTransaction.execute(status -> {
+                try (Stream<String> usernames = memberRepository.streamAllUsernames()) {
+                    return usernames.mapToLong(username -> {
+                        rebuilt.add(username);
+                        return 1;
+                    }).sum();
+                }
+            });
+            filter = rebuilt;
+            log.info("Username filter rebuilt with {} names in {}ms ({} bits)",
+                    count, System.currentTimeMillis() - start, rebuilt.bitSize());
+        } catch (RuntimeException e) {
+            log.warn("Username filter rebuild failed, falling back to database checks", e);
+        } finally {
+            building = null;
+        }
+    }
+
+    public boolean isAvailable(String username) {
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(username)) {
+            filterHits.increment();
+            return true;
+        }
+        databaseChecks.increment();
+        return !memberRepository.existsByUsername(username);
+    }
+
+    // 가입 직후 호출
+    public void add(String username) {
+        remember(username);
+        try {
+            redisTemplate.convertAndSend(RedisKeyUtil.getUsernameChannel(), username);
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish username event: {}", e.getMessage());
+        }
+    }
+
+    // 다른 인스턴스에서 가입한 아이디 (자기 자신이 발행한 것도 받지만 다시 넣어도 같다)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        remember(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void remember(String username) {
+        BloomFilter current = filter;
+        if (current != null) {
+            current.add(username);
+        }
+        BloomFilter next = building;
+        if (next != null) {
+            next.add(username);
+        }
+    }
+}
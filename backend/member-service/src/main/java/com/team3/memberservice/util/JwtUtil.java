@@ -11,8 +11,11 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 @Slf4j
@@ -34,6 +37,7 @@ public class JwtUtil {
         Date now = new Date();
 
         return Jwts.builder()
+                .id(newTokenId())                     // 토큰 ID (jti, 블랙리스트 키로 사용)
                 .subject(String.valueOf(userId))      // 사용자 ID (Subject)
                 .claim("role", role)                  // 사용자 권한 (Custom Claim)
                 .issuedAt(now)                        // 발급 시간
@@ -50,6 +54,11 @@ public class JwtUtil {
         return parseClaims(token).get("role", String.class);
     }
 
+    // jti 도입 전에 발급된 토큰이면 null
+    public String getTokenId(String token) {
+        return parseClaims(token).getId();
+    }
+
     public boolean validateToken(String token) {
         try {
             Jwts.parser()
@@ -92,4 +101,13 @@ public class JwtUtil {
         return (expiration.getTime() - now);
     }
 
+    // UUID(128bit)를 base64url 로 줄인 22자 고정 길이 ID
+    private String newTokenId() {
+        UUID uuid = UUID.randomUUID();
+        ByteBuffer buffer = ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
 }
@@ -8,14 +8,44 @@ import lombok.NoArgsConstructor;
 public class RedisKeyUtil {
 
     private static final String REFRESH_TOKEN_PREFIX = "RT:";
+    private static final String REFRESH_TOKEN_GRACE_PREFIX = "RTG:";
     private static final String BALCKLIST_PREFIX = "BL:";
+    private static final String BLACKLIST_CHANNEL = "blacklist:events";
+    private static final String LOGIN_ATTEMPT_PREFIX = "LA:";
+    private static final String USERNAME_CHANNEL = "username:events";
 
     public static String getRefreshTokenKey(Long userId){
         return REFRESH_TOKEN_PREFIX + userId;
     }
 
-    public static String getBlackListKey(String accessToken){
-        return BALCKLIST_PREFIX + accessToken;
+    // familyId: 로그인마다 새로 만들어져 회전해도 유지되는 리프레시 토큰 계열 ID (기기별 세션)
+    public static String getRefreshTokenKey(Long userId, String familyId){
+        return REFRESH_TOKEN_PREFIX + userId + ":" + familyId;
+    }
+
+    // 직전 회전 기록 (유예 시간 동안 직전 토큰으로 다시 갱신하면 이미 발급한 토큰을 돌려준다)
+    public static String getRefreshTokenGraceKey(Long userId, String familyId){
+        return REFRESH_TOKEN_GRACE_PREFIX + userId + ":" + familyId;
+    }
+
+    // tokenId: 토큰의 jti (jti 가 없는 이전 토큰은 토큰 다이제스트)
+    public static String getBlackListKey(String tokenId){
+        return BALCKLIST_PREFIX + tokenId;
+    }
+
+    // scope: user / ip, window: 슬라이딩 윈도우 카운터의 구간 번호
+    public static String getLoginAttemptKey(String scope, String id, long window){
+        return LOGIN_ATTEMPT_PREFIX + scope + ":" + id + ":" + window;
+    }
+
+    // 로그아웃으로 블랙리스트 키가 추가될 때마다 해당 키가 발행되는 채널
+    public static String getBlackListChannel(){
+        return BLACKLIST_CHANNEL;
+    }
+
+    // 가입으로 아이디가 추가될 때마다 해당 아이디가 발행되는 채널 (다른 인스턴스의 Bloom filter 갱신용)
+    public static String getUsernameChannel(){
+        return USERNAME_CHANNEL;
     }
 
 }
@@ -0,0 +1,13 @@
+-- 로그인 실패 기록 (슬라이딩 윈도우 카운터)
+-- KEYS[1]: 현재 구간 키, KEYS[2]: 이전 구간 키 / ARGV[1]: 구간 길이(ms), ARGV[2]: 현재 구간에서 지난 시간(ms)
+-- 반환: 최근 한 구간 길이 동안의 추정 실패 횟수 (이전 구간은 겹치는 비율만큼만 센다)
+local window = tonumber(ARGV[1])
+local elapsed = tonumber(ARGV[2])
+
+local current = redis.call('INCR', KEYS[1])
+if current == 1 then
+    redis.call('PEXPIRE', KEYS[1], window * 2)
+end
+
+local previous = tonumber(redis.call('GET', KEYS[2]) or '0')
+return math.floor(previous * (window - elapsed) / window) + current
@@ -0,0 +1,35 @@
+-- 리프레시 토큰 회전 (재사용 감지)
+-- KEYS[1]: RT:<userId>:<familyId>, KEYS[2]: RTG:<userId>:<familyId> (직전 회전 기록)
+-- ARGV[1]: 제출된 토큰 다이제스트, ARGV[2]: 새 토큰 다이제스트, ARGV[3]: 새 토큰, ARGV[4]: TTL(ms), ARGV[5]: 유예 시간(ms)
+-- 저장 값: KEYS[1] "<현재 토큰 다이제스트>", KEYS[2] "<직전 토큰 다이제스트> <현재 토큰 다이제스트> <현재 토큰>"
+-- 반환: ROTATED (회전 성공) / GRACE <현재 토큰> (유예 시간 안에 직전 토큰이 다시 들어옴) / UNKNOWN (없거나 만료) / REUSED (같은 계열 전체 폐기)
+local current = redis.call('GET', KEYS[1])
+if not current then
+    return 'UNKNOWN'
+end
+
+-- 이전 형식 "<다이제스트> <role>" 도 읽는다
+local sep = string.find(current, ' ', 1, true)
+if sep then
+    current = string.sub(current, 1, sep - 1)
+end
+
+if current == ARGV[1] then
+    redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[4])
+    if tonumber(ARGV[5]) > 0 then
+        redis.call('SET', KEYS[2], ARGV[1] .. ' ' .. ARGV[2] .. ' ' .. ARGV[3], 'PX', ARGV[5])
+    end
+    return 'ROTATED'
+end
+
+-- 동시에 보낸 갱신이나 응답을 받지 못한 재시도: 직전 토큰이고 그 다음 토큰이 아직 현재 토큰이면 같은 토큰을 다시 준다
+local grace = redis.call('GET', KEYS[2])
+if grace then
+    local previous, successor, token = string.match(grace, '^(%S+) (%S+) (%S+)$')
+    if previous == ARGV[1] and successor == current then
+        return 'GRACE ' .. token
+    end
+end
+
+redis.call('DEL', KEYS[1], KEYS[2])
+return 'REUSED'
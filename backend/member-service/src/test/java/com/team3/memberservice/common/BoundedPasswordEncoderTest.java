@@ -0,0 +1,121 @@
+package com.team3.memberservice.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BoundedPasswordEncoderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CountDownLatch release;
+    private AtomicInteger hashed;
+    private BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        release = new CountDownLatch(1);
+        hashed = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (encoder != null) {
+            encoder.close();
+        }
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 해싱하지 않고 바로 거절한다")
+    void encode_RejectsWhenQueueIsFull() throws Exception {
+        // given - 스레드 하나는 해싱 중, 대기열 한 칸은 차 있음
+        encoder = encoder(5_000);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        waitUntilHashing();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        waitUntilQueued();
+
+        // when & then
+        assertThrows(PasswordHashingBusyException.class, () -> encoder.encode("third"));
+        assertThat(meterRegistry.get("auth.password.rejected").tag("reason", "queue-full").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:second");
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 시작하지 못한 작업은 503 으로 끝내고 해싱하지 않는다")
+    void matches_AbandonsTaskAfterQueueTimeout() throws Exception {
+        // given
+        encoder = encoder(100);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        waitUntilHashing();
+
+        // when & then
+        assertThrows(PasswordHashingBusyException.class, () -> encoder.matches("second", "hashed:second"));
+        assertThat(meterRegistry.get("auth.password.rejected").tag("reason", "queue-timeout").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.password.queue.depth").gauge().value()).isZero();
+
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        assertThat(hashed.get()).isEqualTo(1);
+    }
+
+    // 스레드 1개, 대기열 1칸
+    private BoundedPasswordEncoder encoder(long queueTimeoutMillis) {
+        return new BoundedPasswordEncoder(new BlockingEncoder(), meterRegistry, 1, 1, queueTimeoutMillis);
+    }
+
+    private void waitUntilHashing() throws InterruptedException {
+        long until = System.currentTimeMillis() + 5_000;
+        while (meterRegistry.get("auth.password.queue.wait").timer().count() == 0 && System.currentTimeMillis() < until) {
+            Thread.sleep(5);
+        }
+    }
+
+    private void waitUntilQueued() throws InterruptedException {
+        long until = System.currentTimeMillis() + 5_000;
+        while (meterRegistry.get("auth.password.queue.depth").gauge().value() == 0 && System.currentTimeMillis() < until) {
+            Thread.sleep(5);
+        }
+    }
+
+    // release 될 때까지 해싱을 붙잡고 있는 인코더
+    private class BlockingEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            hashed.incrementAndGet();
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            hashed.incrementAndGet();
+            return encodedPassword.equals("hashed:" + rawPassword);
+        }
+
+        private void await() {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.team3.memberservice.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CalibratedBCryptPasswordEncoderTest {
+
+    @Test
+    @DisplayName("저장된 해시의 cost 가 현재 cost 보다 낮을 때만 다시 해싱 대상이다")
+    void upgradeEncoding_ComparesStoredCost() {
+        // given
+        CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(5);
+        String lower = new BCryptPasswordEncoder(4).encode("password");
+        String same = encoder.encode("password");
+        String higher = new BCryptPasswordEncoder(6).encode("password");
+
+        // when & then
+        assertThat(encoder.upgradeEncoding(lower)).isTrue();
+        assertThat(encoder.upgradeEncoding(same)).isFalse();
+        assertThat(encoder.upgradeEncoding(higher)).isFalse();
+        assertThat(encoder.matches("password", higher)).isTrue();
+        assertThat(CalibratedBCryptPasswordEncoder.costOf(same)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("allowDowngrade 면 현재보다 높은 cost 의 해시도 다시 해싱 대상이다")
+    void upgradeEncoding_DowngradesWhenAllowed() {
+        // given
+        CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(5, true);
+        String higher = new BCryptPasswordEncoder(6).encode("password");
+
+        // when & then
+        assertThat(encoder.upgradeEncoding(higher)).isTrue();
+    }
+
+    @Test
+    @DisplayName("목표 시간을 넘지 않는 범위에서 cost 를 고르고, 최소 cost 아래로는 내려가지 않는다")
+    void calibrate_StaysWithinBounds() {
+        // when
+        int cost = CalibratedBCryptPasswordEncoder.calibrate(0, 4, 6);
+
+        // then
+        assertThat(cost).isBetween(4, 6);
+    }
+}
@@ -1,25 +1,33 @@
 package com.team3.memberservice.service;
 
+import com.team3.memberservice.common.DuplicateUsernameException;
+import com.team3.memberservice.common.InvalidRefreshTokenException;
+import com.team3.memberservice.common.InvalidSignupException;
+import com.team3.memberservice.common.TooManyLoginAttemptsException;
 import com.team3.memberservice.domain.Member;
 import com.team3.memberservice.dto.request.LoginDTO;
 import com.team3.memberservice.dto.request.SignupDTO;
 import com.team3.memberservice.dto.response.ApiResponse;
+import com.team3.memberservice.dto.response.TokenResponseDTO;
 import com.team3.memberservice.enums.UserRole;
 import com.team3.memberservice.repository.MemberRepository;
 import com.team3.memberservice.util.JwtUtil;
 import com.team3.memberservice.util.RedisKeyUtil;
+import com.team3.memberservice.util.TokenDigest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.sql.SQLIntegrityConstraintViolationException;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -27,11 +35,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class AuthServiceTest {
 
+    private static final String CLIENT_IP = "10.0.0.1";
+
     @InjectMocks
     private AuthService authService;
 
@@ -50,6 +62,15 @@ class AuthServiceTest {
     @Mock
     private ValueOperations<String, String> valueOperations;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private LoginAttemptService loginAttemptService;
+
+    @Mock
+    private UsernameAvailabilityService usernameAvailabilityService;
+
     /**
      * 테스트용 Member 객체를 생성하는 헬퍼 메서드
      * userId는 DB에서 생성되므로 Builder에 없어서 Reflection으로 주입
@@ -73,13 +94,11 @@ class AuthServiceTest {
         SignupDTO signupDTO = new SignupDTO("testId", "rawPassword", UserRole.USER);
         Member savedMember = createMember();
 
-        // 1. 중복 체크 통과 설정
-        given(memberRepository.findMemberByUsername(signupDTO.id())).willReturn(Optional.empty());
-        // 2. 비밀번호 암호화 설정
+        // 1. 비밀번호 암호화 설정
         given(passwordEncoder.encode(signupDTO.password())).willReturn("encodedPassword");
-        // 3. 저장 시 ID가 부여된 Member 반환 설정
-        given(memberRepository.save(any(Member.class))).willReturn(savedMember);
-        // 4. 토큰 생성 설정
+        // 2. 저장 시 ID가 부여된 Member 반환 설정 (중복 확인 조회 없이 insert 한 번)
+        given(memberRepository.saveAndFlush(any(Member.class))).willReturn(savedMember);
+        // 3. 토큰 생성 설정
         given(jwtUtil.createToken(savedMember.getUserId(), String.valueOf(savedMember.getRole())))
                 .willReturn("accessToken");
 
@@ -89,6 +108,7 @@ class AuthServiceTest {
         // then
         assertThat(response.status()).isEqualTo("SUCCESS");
         assertThat(response.data()).isEqualTo("accessToken");
+        verify(usernameAvailabilityService).add("testId");
     }
 
     @Test
@@ -97,14 +117,36 @@ class AuthServiceTest {
         // given
         SignupDTO signupDTO = new SignupDTO("testId", "rawPassword", UserRole.USER);
 
-        // 이미 존재하는 멤버가 있다고 가정
-        given(memberRepository.findMemberByUsername(signupDTO.id())).willReturn(Optional.of(createMember()));
+        // 이미 존재하는 아이디라 username 유니크 제약에 걸린다고 가정
+        given(passwordEncoder.encode(signupDTO.password())).willReturn("encodedPassword");
+        given(memberRepository.saveAndFlush(any(Member.class)))
+                .willThrow(new DataIntegrityViolationException("could not execute statement",
+                        new SQLIntegrityConstraintViolationException("Duplicate entry 'testId' for key 'members.username'", "23000", 1062)));
 
         // when & then
         DuplicateKeyException exception = assertThrows(DuplicateKeyException.class,
                 () -> authService.createUser(signupDTO));
 
+        assertThat(exception).isInstanceOf(DuplicateUsernameException.class);
         assertThat(exception.getMessage()).isEqualTo("이미 존재하는 아이디입니다.");
+        verifyNoInteractions(usernameAvailabilityService);
+    }
+
+    @Test
+    @DisplayName("회원가입 실패 - 아이디 중복이 아닌 제약 위반은 잘못된 요청으로 본다")
+    void createUser_Fail_OtherConstraint() {
+        // given
+        SignupDTO signupDTO = new SignupDTO("testId", "rawPassword", null);
+
+        // role 이 NOT NULL 제약에 걸린다고 가정
+        given(passwordEncoder.encode(signupDTO.password())).willReturn("encodedPassword");
+        given(memberRepository.saveAndFlush(any(Member.class)))
+                .willThrow(new DataIntegrityViolationException("could not execute statement",
+                        new SQLIntegrityConstraintViolationException("Column 'role' cannot be null", "23000", 1048)));
+
+        // when & then
+        assertThrows(InvalidSignupException.class, () -> authService.createUser(signupDTO));
+        verifyNoInteractions(usernameAvailabilityService);
     }
 
     @Test
@@ -120,13 +162,37 @@ class AuthServiceTest {
         given(passwordEncoder.matches(loginDTO.password(), member.getPassword())).willReturn(true);
         // 3. 토큰 발급 설정
         given(jwtUtil.createToken(member.getUserId(), String.valueOf(member.getRole()))).willReturn("accessToken");
+        given(refreshTokenService.issue(member.getUserId())).willReturn("refreshToken");
 
         // when
-        ApiResponse<String> response = authService.login(loginDTO);
+        ApiResponse<TokenResponseDTO> response = authService.login(loginDTO, CLIENT_IP);
 
         // then
         assertThat(response.status()).isEqualTo("SUCCESS");
-        assertThat(response.data()).isEqualTo("accessToken");
+        assertThat(response.data().accessToken()).isEqualTo("accessToken");
+        assertThat(response.data().refreshToken()).isEqualTo("refreshToken");
+    }
+
+    @Test
+    @DisplayName("로그인 성공 - 저장된 해시의 cost 가 현재보다 낮으면 다시 해싱해 저장")
+    void login_RehashesOutdatedPassword() {
+        // given
+        LoginDTO loginDTO = new LoginDTO("testId", "rawPassword");
+        Member member = createMember();
+
+        given(memberRepository.findMemberByUsername(loginDTO.id())).willReturn(Optional.of(member));
+        given(passwordEncoder.matches(loginDTO.password(), "encodedPassword")).willReturn(true);
+        given(passwordEncoder.upgradeEncoding("encodedPassword")).willReturn(true);
+        given(passwordEncoder.encode(loginDTO.password())).willReturn("rehashedPassword");
+        given(jwtUtil.createToken(member.getUserId(), String.valueOf(member.getRole()))).willReturn("accessToken");
+
+        // when
+        ApiResponse<TokenResponseDTO> response = authService.login(loginDTO, CLIENT_IP);
+
+        // then
+        assertThat(response.data().accessToken()).isEqualTo("accessToken");
+        assertThat(member.getPassword()).isEqualTo("rehashedPassword");
+        verify(memberRepository).save(member);
     }
 
     @Test
@@ -138,7 +204,7 @@ class AuthServiceTest {
 
         // when & then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
-                () -> authService.login(loginDTO));
+                () -> authService.login(loginDTO, CLIENT_IP));
 
         assertThat(exception.getMessage()).isEqualTo("가입되지 않은 아이디입니다.");
     }
@@ -156,9 +222,55 @@ class AuthServiceTest {
 
         // when & then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
-                () -> authService.login(loginDTO));
+                () -> authService.login(loginDTO, CLIENT_IP));
 
         assertThat(exception.getMessage()).isEqualTo("비밀번호가 일치하지 않습니다.");
+        verify(loginAttemptService).recordFailure(loginDTO.id(), CLIENT_IP);
+    }
+
+    @Test
+    @DisplayName("로그인 실패 - 시도 한도 초과 시 회원 조회와 비밀번호 확인 없이 거절")
+    void login_Fail_Throttled() {
+        // given
+        LoginDTO loginDTO = new LoginDTO("testId", "password");
+        willThrow(new TooManyLoginAttemptsException()).given(loginAttemptService).checkAllowed(loginDTO.id(), CLIENT_IP);
+
+        // when & then
+        assertThrows(TooManyLoginAttemptsException.class, () -> authService.login(loginDTO, CLIENT_IP));
+        verifyNoInteractions(memberRepository, passwordEncoder);
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 - 비밀번호 검증 없이 리프레시 토큰을 회전시키고 현재 role 로 새 액세스 토큰 발급")
+    void refresh_Success() {
+        // given
+        Member member = createMember();
+        given(refreshTokenService.rotate("oldRefreshToken"))
+                .willReturn(new RefreshTokenService.Rotation(1L, "newRefreshToken"));
+        given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+        given(jwtUtil.createToken(1L, "USER")).willReturn("accessToken");
+
+        // when
+        ApiResponse<TokenResponseDTO> response = authService.refresh("oldRefreshToken");
+
+        // then
+        assertThat(response.data().accessToken()).isEqualTo("accessToken");
+        assertThat(response.data().refreshToken()).isEqualTo("newRefreshToken");
+        verifyNoInteractions(passwordEncoder);
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 회원이 없으면 계열을 폐기하고 다시 로그인하게 한다")
+    void refresh_Fail_MemberNotFound() {
+        // given
+        given(refreshTokenService.rotate("oldRefreshToken"))
+                .willReturn(new RefreshTokenService.Rotation(1L, "newRefreshToken"));
+        given(memberRepository.findById(1L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThrows(InvalidRefreshTokenException.class, () -> authService.refresh("oldRefreshToken"));
+        verify(refreshTokenService).revoke("newRefreshToken");
+        verifyNoInteractions(jwtUtil);
     }
 
     @Test
@@ -167,10 +279,12 @@ class AuthServiceTest {
         // given
         String accessToken = "Bearer validTokenString";
         String pureToken = "validTokenString";
+        String tokenId = "tokenId";
         long expiration = 3600L;
 
-        // 1. 토큰 만료시간 조회 Mocking
+        // 1. 토큰 만료시간 / jti 조회 Mocking
         given(jwtUtil.getExpiration(pureToken)).willReturn(expiration);
+        given(jwtUtil.getTokenId(pureToken)).willReturn(tokenId);
         // 2. Redis opsForValue() 호출 시 Mock 객체 반환
         given(redisTemplate.opsForValue()).willReturn(valueOperations);
 
@@ -180,9 +294,39 @@ class AuthServiceTest {
         // then
         assertThat(result).isTrue();
 
-        // Redis에 저장 로직이 호출되었는지 검증
+        // Redis에 jti 기반 키로 저장 로직이 호출되었는지 검증
+        verify(valueOperations).set(
+                RedisKeyUtil.getBlackListKey(tokenId),
+                "logout",
+                expiration,
+                TimeUnit.MILLISECONDS
+        );
+        // 게이트웨이 니어 캐시용 이벤트가 발행되었는지 검증
+        verify(redisTemplate).convertAndSend(
+                RedisKeyUtil.getBlackListChannel(),
+                RedisKeyUtil.getBlackListKey(tokenId)
+        );
+    }
+
+    @Test
+    @DisplayName("로그아웃 성공 - jti 가 없는 이전 토큰은 다이제스트 키 사용")
+    void logout_LegacyToken() {
+        // given
+        String accessToken = "Bearer legacyTokenString";
+        String pureToken = "legacyTokenString";
+        long expiration = 3600L;
+
+        given(jwtUtil.getExpiration(pureToken)).willReturn(expiration);
+        given(jwtUtil.getTokenId(pureToken)).willReturn(null);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+        // when
+        boolean result = authService.logout(accessToken);
+
+        // then
+        assertThat(result).isTrue();
         verify(valueOperations).set(
-                RedisKeyUtil.getBlackListKey(pureToken),
+                RedisKeyUtil.getBlackListKey(TokenDigest.of(pureToken)),
                 "logout",
                 expiration,
                 TimeUnit.MILLISECONDS
@@ -0,0 +1,85 @@
+package com.team3.memberservice.service;
+
+import com.team3.memberservice.common.TooManyLoginAttemptsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class LoginAttemptServiceTest {
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private SimpleMeterRegistry meterRegistry;
+    private LoginAttemptService loginAttemptService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        meterRegistry = new SimpleMeterRegistry();
+        // 15분 동안 아이디당 5회, IP 당 50회
+        loginAttemptService = new LoginAttemptService(redisTemplate, meterRegistry, 900_000, 5, 50);
+    }
+
+    @Test
+    @DisplayName("Redis 카운터가 한도 이상이면 거절하고, 이후 요청은 Redis 를 보지 않고 로컬에서 거절")
+    void checkAllowed_RejectsOverLimitAndLocksLocally() {
+        // given - 아이디 실패 5회
+        given(valueOperations.multiGet(anyList())).willReturn(Arrays.asList("5", null, "5", null));
+
+        // when & then
+        assertThrows(TooManyLoginAttemptsException.class, () -> loginAttemptService.checkAllowed("victim", "10.0.0.1"));
+        assertThrows(TooManyLoginAttemptsException.class, () -> loginAttemptService.checkAllowed("victim", "10.0.0.2"));
+
+        verify(valueOperations).multiGet(anyList());
+        assertThat(meterRegistry.get("auth.login.throttle").tag("result", "rejected-local").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.login.lockouts").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한도 아래면 통과")
+    void checkAllowed_AllowsUnderLimit() {
+        // given
+        given(valueOperations.multiGet(anyList())).willReturn(Arrays.asList("4", null, "10", null));
+
+        // when
+        loginAttemptService.checkAllowed("user", "10.0.0.1");
+
+        // then
+        assertThat(meterRegistry.get("auth.login.lockouts").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패 기록으로 한도에 닿으면 다음 시도부터 Redis 조회 없이 거절")
+    @SuppressWarnings("unchecked")
+    void recordFailure_LocksWhenLimitReached() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString())).willReturn(5L, 1L);
+
+        // when
+        loginAttemptService.recordFailure("victim", "10.0.0.1");
+
+        // then
+        assertThrows(TooManyLoginAttemptsException.class, () -> loginAttemptService.checkAllowed("victim", null));
+        verify(valueOperations, never()).multiGet(anyList());
+        assertThat(meterRegistry.get("auth.login.failures").tag("scope", "user").counter().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,79 @@
+package com.team3.memberservice.service;
+
+import com.team3.memberservice.common.BatchSizeExceededException;
+import com.team3.memberservice.domain.Member;
+import com.team3.memberservice.dto.response.ApiResponse;
+import com.team3.memberservice.dto.response.UserInfoDTO;
+import com.team3.memberservice.enums.UserRole;
+import com.team3.memberservice.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class MemberServiceTests {
+
+    private MemberRepository memberRepository;
+    private MemberService memberService;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        memberService = new MemberService(memberRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(10), 500);
+    }
+
+    private Member createMember(Long userId, String username) {
+        Member member = Member.builder()
+                .username(username)
+                .password("encodedPassword")
+                .role(UserRole.USER)
+                .build();
+        ReflectionTestUtils.setField(member, "userId", userId);
+        return member;
+    }
+
+    @Test
+    @DisplayName("회원 여러 명 조회 - 캐시에 없는 회원만 한 번에 조회하고 요청 순서대로 반환")
+    void getInformations_LoadsOnlyMissingMembers() {
+        // given
+        given(memberRepository.findAllById(anyIterable()))
+                .willReturn(List.of(createMember(1L, "alice"), createMember(2L, "bob")))
+                .willReturn(List.of(createMember(3L, "carol")));
+        memberService.getInformations(List.of(1L, 2L));
+
+        // when - 1, 2 는 캐시, 3 만 조회, 99 는 없는 회원
+        ApiResponse<List<UserInfoDTO>> response = memberService.getInformations(List.of(3L, 1L, 99L, 2L));
+
+        // then
+        assertThat(response.data()).extracting(UserInfoDTO::username).containsExactly("carol", "alice", "bob");
+        verify(memberRepository, times(1)).findAllById(Set.of(1L, 2L));
+        verify(memberRepository, times(1)).findAllById(Set.of(3L, 99L));
+    }
+
+    @Test
+    @DisplayName("회원 여러 명 조회 - 최대 개수를 넘으면 조회하지 않고 실패")
+    void getInformations_Fail_TooMany() {
+        // given
+        List<Long> ids = LongStream.rangeClosed(1, 501).boxed().toList();
+
+        // when & then
+        assertThatThrownBy(() -> memberService.getInformations(ids))
+                .isInstanceOf(BatchSizeExceededException.class);
+        verify(memberRepository, never()).findAllById(anyIterable());
+    }
+}
@@ -0,0 +1,72 @@
+package com.team3.memberservice.service;
+
+import com.team3.memberservice.common.InvalidRefreshTokenException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class RefreshTokenServiceTests {
+
+    private static final String TOKEN = "1.family.secret";
+
+    private StringRedisTemplate redisTemplate;
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        refreshTokenService = new RefreshTokenService(redisTemplate, new SimpleMeterRegistry(), 1_209_600_000L, 10_000L);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 회전 - 새 토큰을 발급하고 직전 회전 기록도 함께 넘긴다")
+    void rotate_Success() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn("ROTATED");
+
+        // when
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(TOKEN);
+
+        // then
+        assertThat(rotation.userId()).isEqualTo(1L);
+        assertThat(rotation.refreshToken()).startsWith("1.family.").isNotEqualTo(TOKEN);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("RT:1:family", "RTG:1:family")), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 회전 - 유예 시간 안에 직전 토큰이 다시 들어오면 이미 발급한 토큰을 돌려준다")
+    void rotate_GracePeriod_ReturnsSuccessor() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn("GRACE 1.family.successor");
+
+        // when
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(TOKEN);
+
+        // then
+        assertThat(rotation.refreshToken()).isEqualTo("1.family.successor");
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 회전 실패 - 재사용된 토큰")
+    void rotate_Fail_Reused() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn("REUSED");
+
+        // when & then
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate(TOKEN));
+    }
+}
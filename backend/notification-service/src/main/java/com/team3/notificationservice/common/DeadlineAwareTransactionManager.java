@@ -0,0 +1,41 @@
+package com.team3.notificationservice.common;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+/**
+ * 요청 마감 시각이 있으면 트랜잭션 제한 시간을 남은 시간으로 줄인다.
+ * 줄어든 제한 시간은 트랜잭션 안의 쿼리마다 남은 만큼 적용되고,
+ * 마감이 이미 지났으면 커넥션을 잡기 전에 DeadlineExceededException(504)으로 바로 실패한다.
+ */
+public class DeadlineAwareTransactionManager extends JpaTransactionManager {
+
+    public DeadlineAwareTransactionManager(EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory);
+    }
+
+    // determineTimeout 에서 던지면 JpaTransactionManager 가 CannotCreateTransactionException 으로 감싸 500 이 되므로 시작 전에 확인한다
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        Long deadline = RequestDeadline.get();
+        if (deadline != null && deadline <= System.currentTimeMillis()) {
+            throw new DeadlineExceededException();
+        }
+        super.doBegin(transaction, definition);
+    }
+
+    @Override
+    protected int determineTimeout(TransactionDefinition definition) {
+        int timeout = super.determineTimeout(definition);
+        Long deadline = RequestDeadline.get();
+        if (deadline == null) {
+            return timeout;
+        }
+
+        long remaining = deadline - System.currentTimeMillis();
+        // 트랜잭션 제한 시간은 초 단위라 올림한다 (doBegin 확인 직후 마감이 지났어도 최소 1초)
+        int remainingSeconds = (int) Math.max(1, Math.min(Integer.MAX_VALUE, (remaining + 999) / 1000));
+        return timeout == TransactionDefinition.TIMEOUT_DEFAULT ? remainingSeconds : Math.min(timeout, remainingSeconds);
+    }
+}
@@ -1,6 +1,7 @@
 package com.team3.notificationservice.config;
 
 import com.team3.notificationservice.interceptor.InternalSecretInterceptor;
+import com.team3.notificationservice.interceptor.RequestDeadlineInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -11,9 +12,13 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebConfig implements WebMvcConfigurer {
 
     private final InternalSecretInterceptor internalSecretInterceptor;
+    private final RequestDeadlineInterceptor requestDeadlineInterceptor;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        // 게이트웨이가 넣어준 요청 마감 시각 (모든 요청)
+        registry.addInterceptor(requestDeadlineInterceptor);
+
         registry.addInterceptor(internalSecretInterceptor)
                 .addPathPatterns("/notification") // 모든 API 검사
                 .excludePathPatterns("/auth/**"); // (선택) 로그인은 게이트웨이 필터 안 거칠 수도 있으니 예외 처리 필요할 수도 있음
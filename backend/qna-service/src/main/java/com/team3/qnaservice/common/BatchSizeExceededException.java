@@ -0,0 +1,13 @@
+package com.team3.qnaservice.common;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 한 번에 조회할 수 있는 개수를 넘긴 배치 조회 요청
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class BatchSizeExceededException extends RuntimeException {
+
+    public BatchSizeExceededException(int maxSize) {
+        super("한 번에 조회할 수 있는 개수는 " + maxSize + "개까지입니다.");
+    }
+}
@@ -0,0 +1,58 @@
+package com.team3.qnaservice.config;
+
+import com.team3.qnaservice.common.DeadlineExceededException;
+import com.team3.qnaservice.common.RequestDeadline;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.RequestInterceptor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 Feign 클라이언트에 요청 마감 시각을 적용한다.
+ * - 마감 헤더를 호출하는 서비스로 그대로 넘긴다
+ * - 연결/읽기 제한 시간을 남은 시간 이하로 줄이고, 남은 시간이 없으면 호출하지 않는다
+ */
+@Configuration
+public class FeignConfig {
+
+    @Bean
+    public RequestInterceptor requestDeadlineInterceptor() {
+        return template -> {
+            Long deadline = RequestDeadline.get();
+            if (deadline != null) {
+                template.header(RequestDeadline.HEADER, String.valueOf(deadline));
+            }
+        };
+    }
+
+    @Bean
+    public Capability requestDeadlineCapability() {
+        return new Capability() {
+            @Override
+            public Client enrich(Client client) {
+                return (request, options) -> client.execute(request, withinDeadline(options));
+            }
+        };
+    }
+
+    private static Request.Options withinDeadline(Request.Options options) {
+        Long deadline = RequestDeadline.get();
+        if (deadline == null) {
+            return options;
+        }
+
+        long remaining = deadline - System.currentTimeMillis();
+        if (remaining <= 0) {
+            throw new DeadlineExceededException();
+        }
+        return new Request.Options(
+                Math.min(options.connectTimeoutMillis(), remaining), TimeUnit.MILLISECONDS,
+                Math.min(options.readTimeoutMillis(), remaining), TimeUnit.MILLISECONDS,
+                options.isFollowRedirects()
+        );
+    }
+}
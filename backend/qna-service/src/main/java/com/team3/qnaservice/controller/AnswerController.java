@@ -51,6 +51,14 @@ public class AnswerController {
         return ResponseEntity.ok(ApiResponse.success(results));
     }
 
+    @Operation(summary = "여러 questionId의 답변을 한 번에 조회하는 API 입니다.")
+    @GetMapping("/batch")
+    @SecurityRequirement(name = "JWT")
+    public ResponseEntity<ApiResponse<List<AnswerResponseDTO>>> searchByQuestionIds(@RequestParam List<Long> questionIds) {
+        List<AnswerResponseDTO> results = answerService.getAnswersByQuestionIds(questionIds);
+        return ResponseEntity.ok(ApiResponse.success(results));
+    }
+
     @Operation(summary = "답변 수정 API 입니다.")
     @PatchMapping("/{answerId}")
     @SecurityRequirement(name = "JWT")
@@ -4,6 +4,7 @@ import com.team3.qnaservice.domain.Answer;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
  //jpa 옆에 있는건 엔티티, 그옆에는 pk의 wrapper class
@@ -11,5 +12,6 @@ import java.util.List;
 public interface AnswerRepository extends JpaRepository<Answer, Long> {
     List<Answer> findByAnswerContentContaining(String answerContent);
     List<Answer> findByQuestionId(Long questionId);
+    List<Answer> findByQuestionIdIn(Collection<Long> questionIds);
 
  }
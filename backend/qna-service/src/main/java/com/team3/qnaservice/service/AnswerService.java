@@ -1,6 +1,7 @@
 package com.team3.qnaservice.service;
 
 import com.team3.qnaservice.client.NotificationClient;
+import com.team3.qnaservice.common.BatchSizeExceededException;
 import com.team3.qnaservice.domain.Answer;
 import com.team3.qnaservice.domain.Question;
 import com.team3.qnaservice.dto.request.AnswerCreateDTO;
@@ -9,7 +10,7 @@ import com.team3.qnaservice.dto.request.AnswerCreatedRequest;
 import com.team3.qnaservice.dto.response.AnswerResponseDTO;
 import com.team3.qnaservice.repository.AnswerRepository;
 import com.team3.qnaservice.repository.QuestionRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,11 +18,23 @@ import java.util.List;
 
 @Service
 @Transactional(readOnly = true)
-@RequiredArgsConstructor
 public class AnswerService {
     private final NotificationClient notificationClient;
     private final AnswerRepository answerRepository;
     private final QuestionRepository questionRepository;
+    private final int maxBatchSize;
+
+    public AnswerService(
+            NotificationClient notificationClient,
+            AnswerRepository answerRepository,
+            QuestionRepository questionRepository,
+            @Value("${qna.answer.batch.max-size:100}") int maxBatchSize
+    ) {
+        this.notificationClient = notificationClient;
+        this.answerRepository = answerRepository;
+        this.questionRepository = questionRepository;
+        this.maxBatchSize = maxBatchSize;
+    }
 
     @Transactional
     public AnswerResponseDTO createAnswer(AnswerCreateDTO dto, Long userId, Long questionId, String role) {
@@ -58,6 +71,21 @@ public class AnswerService {
                 .toList();
     }
 
+    // 여러 질문의 답변을 쿼리 한 번으로 조회 (GraphQL 배치 로딩용)
+    public List<AnswerResponseDTO> getAnswersByQuestionIds(List<Long> questionIds) {
+        if (questionIds.isEmpty()) {
+            return List.of();
+        }
+        // IN 절이 끝없이 길어지지 않게 한 번에 조회할 질문 수를 제한한다
+        if (questionIds.size() > maxBatchSize) {
+            throw new BatchSizeExceededException(maxBatchSize);
+        }
+        return answerRepository.findByQuestionIdIn(questionIds)
+                .stream()
+                .map(AnswerResponseDTO::fromEntity)
+                .toList();
+    }
+
     @Transactional
     public AnswerResponseDTO updateAnswer(Long answerId, AnswerUpdateDTO dto, Long userId, Long questionId) {
         Answer answer = answerRepository.findById(answerId)
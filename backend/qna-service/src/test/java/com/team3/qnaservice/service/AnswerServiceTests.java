@@ -1,5 +1,7 @@
 package com.team3.qnaservice.service;
 
+import com.team3.qnaservice.client.NotificationClient;
+import com.team3.qnaservice.common.BatchSizeExceededException;
 import com.team3.qnaservice.domain.Answer;
 import com.team3.qnaservice.domain.Question;
 import com.team3.qnaservice.dto.request.AnswerCreateDTO;
@@ -26,12 +28,15 @@ class AnswerServiceTests {
     @Mock
     private QuestionRepository questionRepository;
 
-    @InjectMocks
+    @Mock
+    private NotificationClient notificationClient;
+
     private AnswerService answerService;
 
     @BeforeEach
     void setup() {
         MockitoAnnotations.openMocks(this);
+        answerService = new AnswerService(notificationClient, answerRepository, questionRepository, 2);
     }
 
     // ------------------------------------------------------------------------------------------
@@ -110,6 +115,32 @@ class AnswerServiceTests {
         verify(answerRepository).findByQuestionId(5L);
     }
 
+    // ------------------------------------------------------------------------------------------
+    @Test
+    @DisplayName("여러 questionId의 답변을 한 번에 조회")
+    void getAnswersByQuestionIds_success() {
+        Answer a1 = Answer.builder().answerContent("답변1").build();
+        a1.assignQuestionId(5L);
+        Answer a2 = Answer.builder().answerContent("답변2").build();
+        a2.assignQuestionId(6L);
+
+        when(answerRepository.findByQuestionIdIn(List.of(5L, 6L))).thenReturn(List.of(a1, a2));
+
+        List<AnswerResponseDTO> results = answerService.getAnswersByQuestionIds(List.of(5L, 6L));
+
+        assertThat(results).extracting(AnswerResponseDTO::questionId).containsExactly(5L, 6L);
+        verify(answerRepository, times(1)).findByQuestionIdIn(List.of(5L, 6L));
+    }
+
+    // ------------------------------------------------------------------------------------------
+    @Test
+    @DisplayName("여러 questionId 조회 실패 - 최대 개수 초과")
+    void getAnswersByQuestionIds_tooMany_fail() {
+        assertThatThrownBy(() -> answerService.getAnswersByQuestionIds(List.of(5L, 6L, 7L)))
+                .isInstanceOf(BatchSizeExceededException.class);
+        verify(answerRepository, never()).findByQuestionIdIn(any());
+    }
+
     // ------------------------------------------------------------------------------------------
     @Test
     @DisplayName("답변 수정 성공")
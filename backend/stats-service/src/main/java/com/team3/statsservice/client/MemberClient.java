@@ -0,0 +1,21 @@
+package com.team3.statsservice.client;
+
+import com.team3.statsservice.dto.response.ApiResponse;
+import com.team3.statsservice.dto.response.MemberInfoDTO;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.Collection;
+import java.util.List;
+
+@FeignClient(
+        name = "member-service",
+        path = "/member"
+)
+public interface MemberClient {
+
+    // 없는 회원은 결과에서 빠진다
+    @GetMapping("/batch")
+    ApiResponse<List<MemberInfoDTO>> getMembers(@RequestParam("ids") Collection<Long> ids);
+}
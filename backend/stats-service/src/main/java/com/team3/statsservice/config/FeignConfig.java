@@ -0,0 +1,66 @@
+package com.team3.statsservice.config;
+
+import com.team3.statsservice.common.DeadlineExceededException;
+import com.team3.statsservice.common.RequestDeadline;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.RequestInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 Feign 클라이언트에 요청 마감 시각을 적용한다.
+ * - 마감 헤더를 호출하는 서비스로 그대로 넘긴다
+ * - 연결/읽기 제한 시간을 남은 시간 이하로 줄이고, 남은 시간이 없으면 호출하지 않는다
+ * 호출받는 서비스의 InternalSecretInterceptor 를 통과하도록 내부 비밀키도 붙인다.
+ */
+@Configuration
+public class FeignConfig {
+
+    @Bean
+    public RequestInterceptor requestDeadlineInterceptor() {
+        return template -> {
+            Long deadline = RequestDeadline.get();
+            if (deadline != null) {
+                template.header(RequestDeadline.HEADER, String.valueOf(deadline));
+            }
+        };
+    }
+
+    // member-service 의 /member/** 는 게이트웨이를 거치지 않은 호출도 내부 비밀키를 요구한다
+    @Bean
+    public RequestInterceptor internalSecretHeaderInterceptor(@Value("${internal.secret-key}") String internalSecretKey) {
+        return template -> template.header("X-Internal-Secret", internalSecretKey);
+    }
+
+    @Bean
+    public Capability requestDeadlineCapability() {
+        return new Capability() {
+            @Override
+            public Client enrich(Client client) {
+                return (request, options) -> client.execute(request, withinDeadline(options));
+            }
+        };
+    }
+
+    private static Request.Options withinDeadline(Request.Options options) {
+        Long deadline = RequestDeadline.get();
+        if (deadline == null) {
+            return options;
+        }
+
+        long remaining = deadline - System.currentTimeMillis();
+        if (remaining <= 0) {
+            throw new DeadlineExceededException();
+        }
+        return new Request.Options(
+                Math.min(options.connectTimeoutMillis(), remaining), TimeUnit.MILLISECONDS,
+                Math.min(options.readTimeoutMillis(), remaining), TimeUnit.MILLISECONDS,
+                options.isFollowRedirects()
+        );
+    }
+}
@@ -4,5 +4,6 @@ public record CalorieRankingDto (
 
         int calorieRank,
         Long userId,
+        String username, // member-service 에서 가져오지 못하면 null
         Integer totalCalories
 ) {}
@@ -0,0 +1,6 @@
+package com.team3.statsservice.dto.response;
+
+public record MemberInfoDTO(
+        Long userId,
+        String username
+) {}
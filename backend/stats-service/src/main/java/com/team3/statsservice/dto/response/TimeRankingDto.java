@@ -4,5 +4,6 @@ public record TimeRankingDto (
 
         int timeRank,
         Long userId,
+        String username, // member-service 에서 가져오지 못하면 null
         Integer totalDuration
 ) {}
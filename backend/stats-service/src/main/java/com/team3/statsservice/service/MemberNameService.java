@@ -0,0 +1,76 @@
+package com.team3.statsservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.team3.statsservice.client.MemberClient;
+import com.team3.statsservice.dto.response.ApiResponse;
+import com.team3.statsservice.dto.response.MemberInfoDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 랭킹에 붙일 아이디(username) 조회.
+ * 캐시에 없는 userId 만 모아 member-service 를 한 번 호출한다 (랭킹 한 페이지당 최대 한 번).
+ * member-service 를 호출하지 못하면 아이디 없이 랭킹을 돌려준다.
+ */
+@Slf4j
+@Service
+public class MemberNameService {
+
+    private final MemberClient memberClient;
+    private final Cache<Long, String> usernames;
+    private final int batchSize;
+
+    public MemberNameService(
+            MemberClient memberClient,
+            @Value("${stats.member-cache.max-size:10000}") long maxSize,
+            @Value("${stats.member-cache.ttl:10m}") Duration ttl,
+            @Value("${stats.member-cache.batch-size:500}") int batchSize
+    ) {
+        this.memberClient = memberClient;
+        this.usernames = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.batchSize = batchSize;
+    }
+
+    // userId -> username (찾지 못한 userId 는 빠진다)
+    public Map<Long, String> getUsernames(Collection<Long> userIds) {
+        Set<Long> ids = new LinkedHashSet<>(userIds);
+        Map<Long, String> result = new HashMap<>(usernames.getAllPresent(ids));
+        ids.removeAll(result.keySet());
+        if (ids.isEmpty()) {
+            return result;
+        }
+
+        // member-service 의 한 번 조회 한도(member.batch.max-size)에 맞춰 나눈다
+        List<Long> missing = List.copyOf(ids);
+        for (int from = 0; from < missing.size(); from += batchSize) {
+            List<Long> chunk = missing.subList(from, Math.min(missing.size(), from + batchSize));
+            try {
+                ApiResponse<List<MemberInfoDTO>> response = memberClient.getMembers(chunk);
+                if (response == null || response.data() == null) {
+                    continue;
+                }
+                for (MemberInfoDTO member : response.data()) {
+                    usernames.put(member.userId(), member.username());
+                    result.put(member.userId(), member.username());
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to load usernames for {} members: {}", chunk.size(), e.getMessage());
+                break;
+            }
+        }
+        return result;
+    }
+}
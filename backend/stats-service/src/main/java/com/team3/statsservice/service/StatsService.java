@@ -16,6 +16,7 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @Transactional(readOnly = true)
@@ -24,6 +25,7 @@ public class StatsService {
 
     private final StatsRepository statsRepository;
     private final StatsClient statsClient;
+    private final MemberNameService memberNameService;
 
     @Transactional
     public void createLastWeekStats(Long userId) {
@@ -86,6 +88,7 @@ public class StatsService {
 
     private List<TimeRankingDto> buildTimeRanking(List<Stats> statsList) {
         List<TimeRankingDto> result = new ArrayList<>();
+        Map<Long, String> usernames = memberNameService.getUsernames(statsList.stream().map(Stats::getUserId).toList());
 
         int index = 0;
         int currentRank = 0;
@@ -105,6 +108,7 @@ public class StatsService {
             result.add(new TimeRankingDto(
                     currentRank,
                     stats.getUserId(),
+                    usernames.get(stats.getUserId()),
                     value
             ));
         }
@@ -114,6 +118,7 @@ public class StatsService {
 
     private List<CalorieRankingDto> buildCalorieRanking(List<Stats> statsList) {
         List<CalorieRankingDto> result = new ArrayList<>();
+        Map<Long, String> usernames = memberNameService.getUsernames(statsList.stream().map(Stats::getUserId).toList());
 
         int index = 0;
         int currentRank = 0;
@@ -133,6 +138,7 @@ public class StatsService {
             result.add(new CalorieRankingDto(
                     currentRank,
                     stats.getUserId(),
+                    usernames.get(stats.getUserId()),
                     value
             ));
         }
@@ -0,0 +1,71 @@
+package com.team3.statsservice.common;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class DeadlineAwareTransactionManagerTest {
+
+    private final DeadlineAwareTransactionManager transactionManager =
+            new DeadlineAwareTransactionManager(mock(EntityManagerFactory.class));
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @DisplayName("마감 시각이 없으면 기본 제한 시간을 그대로 쓴다")
+    @Test
+    void noDeadline() {
+        // when
+        int timeout = transactionManager.determineTimeout(new DefaultTransactionDefinition());
+
+        // then
+        assertEquals(TransactionDefinition.TIMEOUT_DEFAULT, timeout);
+    }
+
+    @DisplayName("남은 시간을 초 단위로 올림해 제한 시간으로 쓴다")
+    @Test
+    void remainingSeconds() {
+        // given
+        RequestDeadline.set(System.currentTimeMillis() + 2_500);
+
+        // when
+        int timeout = transactionManager.determineTimeout(new DefaultTransactionDefinition());
+
+        // then
+        assertTrue(timeout >= 2 && timeout <= 3);
+    }
+
+    @DisplayName("지정된 제한 시간이 더 짧으면 그것을 쓴다")
+    @Test
+    void shorterDefinitionTimeout() {
+        // given
+        RequestDeadline.set(System.currentTimeMillis() + 60_000);
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setTimeout(5);
+
+        // when
+        int timeout = transactionManager.determineTimeout(definition);
+
+        // then
+        assertEquals(5, timeout);
+    }
+
+    @DisplayName("마감이 지났으면 트랜잭션을 시작하지 않고 504 예외를 던진다")
+    @Test
+    void deadlineExceeded() {
+        // given
+        RequestDeadline.set(System.currentTimeMillis() - 1);
+
+        // when & then
+        assertThrows(DeadlineExceededException.class,
+                () -> transactionManager.getTransaction(new DefaultTransactionDefinition()));
+    }
+}
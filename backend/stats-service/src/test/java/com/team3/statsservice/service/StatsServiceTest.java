@@ -1,9 +1,12 @@
 package com.team3.statsservice.service;
 
+import com.team3.statsservice.client.MemberClient;
 import com.team3.statsservice.client.StatsClient;
 import com.team3.statsservice.domian.Stats;
 import com.team3.statsservice.dto.request.WeeklyStatsDTO;
+import com.team3.statsservice.dto.response.ApiResponse;
 import com.team3.statsservice.dto.response.CalorieRankingDto;
+import com.team3.statsservice.dto.response.MemberInfoDTO;
 import com.team3.statsservice.dto.response.StatsViewDTO;
 import com.team3.statsservice.dto.response.TimeRankingDto;
 import com.team3.statsservice.dto.response.WeeklyStatsResponseDTO;
@@ -34,6 +37,9 @@ class StatsServiceTest {
     @MockitoBean
     private StatsClient statsClient;
 
+    @MockitoBean
+    private MemberClient memberClient;
+
     @BeforeEach
     void setUp() {
         statsRepository.deleteAll();
@@ -118,6 +124,11 @@ class StatsServiceTest {
         WeeklyStatsResponseDTO summary3 = new WeeklyStatsResponseDTO(user3, null, null, 45, 400); // user3: 45분
 
         when(statsClient.getWeeklyStats(any(WeeklyStatsDTO.class))).thenReturn(summary1, summary2, summary3);
+        when(memberClient.getMembers(any())).thenReturn(ApiResponse.success(List.of(
+                new MemberInfoDTO(user1, "user1"),
+                new MemberInfoDTO(user2, "user2"),
+                new MemberInfoDTO(user3, "user3")
+        )));
 
         statsService.createLastWeekStats(user1);
         statsService.createLastWeekStats(user2);
@@ -130,6 +141,7 @@ class StatsServiceTest {
         assertEquals(3, ranking.size());
 
         assertEquals(user2, ranking.get(0).userId());
+        assertEquals("user2", ranking.get(0).username());
         assertEquals(1, ranking.get(0).timeRank());
         assertEquals(60, ranking.get(0).totalDuration());
 
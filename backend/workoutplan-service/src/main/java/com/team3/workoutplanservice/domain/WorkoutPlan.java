@@ -11,7 +11,11 @@ import java.time.LocalDate;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "workout_plan")
+// 주간 합계 쿼리(userId + 기간)가 테이블을 읽지 않도록 합산하는 컬럼까지 인덱스에 포함
+@Table(name = "workout_plan", indexes = @Index(
+        name = "idx_workout_plan_user_date",
+        columnList = "userId, date, isCompleted, burnedCalories, workoutRecord"
+))
 public class WorkoutPlan {
 
 
@@ -0,0 +1,8 @@
+package com.team3.workoutplanservice.dto.response;
+
+// 기간 내 운동 계획 합계 (DB 에서 SUM 으로 계산, 계획이 없으면 모두 0)
+public record WeeklyTotalsDTO (
+        Long plannedCalories,   // 전체 계획 칼로리
+        Long achievedCalories,  // 완료한 계획의 칼로리
+        Long completedDuration  // 완료한 계획의 운동 시간
+) {}
@@ -1,7 +1,10 @@
 package com.team3.workoutplanservice.repository;
 
 import com.team3.workoutplanservice.domain.WorkoutPlan;
+import com.team3.workoutplanservice.dto.response.WeeklyTotalsDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -16,4 +19,18 @@ public interface WorkoutPlanRepository extends JpaRepository<WorkoutPlan, Long>
     Optional<WorkoutPlan> findByUserIdAndDate(Long userId, LocalDate date);
 
     List<WorkoutPlan> findAllByDateBetweenAndUserId(LocalDate start, LocalDate end, Long userId);
-}
\ No newline at end of file
+
+    // 엔티티를 읽지 않고 DB 에서 합계만 계산 (idx_workout_plan_user_date 인덱스만 읽고 끝난다)
+    @Query("""
+            select new com.team3.workoutplanservice.dto.response.WeeklyTotalsDTO(
+                coalesce(sum(w.burnedCalories), 0L),
+                coalesce(sum(case when w.isCompleted = true then w.burnedCalories else 0 end), 0L),
+                coalesce(sum(case when w.isCompleted = true then w.workoutRecord else 0 end), 0L)
+            )
+            from WorkoutPlan w
+            where w.userId = :userId and w.date between :start and :end
+            """)
+    WeeklyTotalsDTO sumTotalsByUserIdAndDateBetween(@Param("userId") Long userId,
+                                                    @Param("start") LocalDate start,
+                                                    @Param("end") LocalDate end);
+}
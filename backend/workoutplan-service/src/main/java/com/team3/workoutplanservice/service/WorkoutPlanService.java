@@ -6,6 +6,7 @@ import com.team3.workoutplanservice.dto.request.WeeklyStatsDTO;
 import com.team3.workoutplanservice.dto.request.WorkoutPlanRequest;
 import com.team3.workoutplanservice.dto.response.WeeklyStatsResponseDTO;
 import com.team3.workoutplanservice.dto.response.WeeklySummaryDTO;
+import com.team3.workoutplanservice.dto.response.WeeklyTotalsDTO;
 import com.team3.workoutplanservice.repository.WorkoutPlanRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -76,47 +77,26 @@ public class WorkoutPlanService {
     }
 
     public WeeklySummaryDTO getWeeklyValue(WeeklyRequestDTO dto) {
-        List<WorkoutPlan> allPlans = workoutPlanRepository.findAllByDateBetweenAndUserId(dto.startDate(), dto.endDate(), dto.userId());
-        int plannedAmount = 0;
-        int achievedAmount = 0;
+        WeeklyTotalsDTO totals = workoutPlanRepository.sumTotalsByUserIdAndDateBetween(dto.userId(), dto.startDate(), dto.endDate());
 
-        for (WorkoutPlan plan : allPlans) {
-            plannedAmount+=plan.getBurnedCalories();
-            if(plan.isCompleted()) {
-                achievedAmount+=plan.getBurnedCalories();
-            }
-
-        }
         return WeeklySummaryDTO.builder()
                 .userId(dto.userId())
                 .startDate(dto.startDate())
                 .endDate(dto.endDate())
-                .plannedAmount(plannedAmount)
-                .achievedAmount(achievedAmount)
+                .plannedAmount(Math.toIntExact(totals.plannedCalories()))
+                .achievedAmount(Math.toIntExact(totals.achievedCalories()))
                 .build();
     }
 
     public WeeklyStatsResponseDTO getWeeklyRanking(WeeklyStatsDTO dto) {
-
-        List<WorkoutPlan> allPlans = workoutPlanRepository.findAllByDateBetweenAndUserId(dto.startDate(), dto.endDate(), dto.userId());
-        int totalCalories = 0;
-        int totalDuration = 0;
-
-        for (WorkoutPlan plan : allPlans) {
-
-            if(plan.isCompleted()) {
-                totalCalories+=plan.getBurnedCalories();
-                totalDuration+=plan.getWorkoutRecord();
-            }
-
-        }
+        WeeklyTotalsDTO totals = workoutPlanRepository.sumTotalsByUserIdAndDateBetween(dto.userId(), dto.startDate(), dto.endDate());
 
         return WeeklyStatsResponseDTO.builder()
                 .userId(dto.userId())
                 .startDate(dto.startDate())
                 .endDate(dto.endDate())
-                .totalCalories(totalCalories)
-                .totalDuration(totalDuration)
+                .totalCalories(Math.toIntExact(totals.achievedCalories()))
+                .totalDuration(Math.toIntExact(totals.completedDuration()))
                 .build();
 
     }
@@ -18,11 +18,23 @@ export const authApi = {
     return response.data
   },
 
+  /**
+   * 아이디 사용 가능 여부
+   * GET /api/v1/member-service/auth/check-username?username={id}
+   * Response: { status: 'SUCCESS', message: string, data: boolean } (true 면 사용 가능)
+   */
+  checkUsername: async (username) => {
+    const response = await api.get(`${AUTH_BASE}/auth/check-username`, {
+      params: { username },
+    })
+    return response.data.data
+  },
+
   /**
    * 로그인
    * POST /api/v1/member-service/auth/login
    * Body: { id: string, password: string }
-   * Response: { status: 'SUCCESS', message: string, data: accessToken }
+   * Response: { status: 'SUCCESS', message: string, data: { accessToken, refreshToken } }
    */
   login: async (id, password) => {
     const response = await api.post(`${AUTH_BASE}/auth/login`, {
@@ -30,9 +42,9 @@ export const authApi = {
       password,
     })
     
-    // 토큰 저장 (data 필드에 accessToken 문자열이 직접 들어옴)
+    // 토큰 저장 (액세스 토큰 + 리프레시 토큰)
     if (response.data.status === 'SUCCESS' && response.data.data) {
-      TokenService.setAccessToken(response.data.data)
+      TokenService.setTokens(response.data.data)
     }
     
     return response.data
@@ -42,11 +54,13 @@ export const authApi = {
    * 로그아웃
    * POST /api/v1/member-service/auth/logout
    * Headers: Authorization: Bearer {token}
+   * Body: { refreshToken: string } (이 기기의 리프레시 토큰도 폐기)
    */
   logout: async () => {
     const token = TokenService.getAccessToken()
+    const refreshToken = TokenService.getRefreshToken()
     try {
-      await api.post(`${AUTH_BASE}/auth/logout`, null, {
+      await api.post(`${AUTH_BASE}/auth/logout`, refreshToken ? { refreshToken } : null, {
         headers: {
           Authorization: `${token}`
         }
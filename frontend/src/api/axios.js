@@ -15,8 +15,16 @@ const api = axios.create({
 export const TokenService = {
   getAccessToken: () => localStorage.getItem('accessToken'),
   setAccessToken: (token) => localStorage.setItem('accessToken', token),
+  getRefreshToken: () => localStorage.getItem('refreshToken'),
+  setTokens: ({ accessToken, refreshToken }) => {
+    localStorage.setItem('accessToken', accessToken)
+    if (refreshToken) {
+      localStorage.setItem('refreshToken', refreshToken)
+    }
+  },
   clearTokens: () => {
     localStorage.removeItem('accessToken')
+    localStorage.removeItem('refreshToken')
     localStorage.removeItem('user')
   },
   getUser: () => {
@@ -40,12 +48,45 @@ api.interceptors.request.use(
   }
 )
 
+// 액세스 토큰 재발급 (동시에 여러 요청이 401 을 받아도 한 번만 호출)
+// 인터셉터를 타지 않도록 기본 axios 로 호출한다
+let refreshPromise = null
+const refreshAccessToken = () => {
+  if (!refreshPromise) {
+    refreshPromise = axios
+      .post(`${API_BASE_URL}/api/v1/member-service/auth/refresh`, {
+        refreshToken: TokenService.getRefreshToken(),
+      })
+      .then((response) => {
+        TokenService.setTokens(response.data.data)
+        return response.data.data.accessToken
+      })
+      .finally(() => {
+        refreshPromise = null
+      })
+  }
+  return refreshPromise
+}
+
 // Response Interceptor - HTTP 상태 코드별 에러 처리
 api.interceptors.response.use(
   (response) => {
     return response
   },
-  (error) => {
+  async (error) => {
+    const original = error.config
+    // 액세스 토큰 만료 - 리프레시 토큰으로 한 번만 재발급 후 재시도
+    if (error.response?.status === 401 && original && !original._retried && TokenService.getRefreshToken()) {
+      original._retried = true
+      try {
+        const accessToken = await refreshAccessToken()
+        original.headers.Authorization = `Bearer ${accessToken}`
+        return api(original)
+      } catch (refreshError) {
+        // 리프레시 토큰도 만료/재사용 - 아래 401 처리로 로그인 페이지 이동
+      }
+    }
+
     if (error.response) {
       const { status, data } = error.response
 
@@ -0,0 +1,15 @@
+import api from './axios'
+
+const DASHBOARD_BASE = '/api/v1/dashboard'
+
+export const dashboardApi = {
+  // 통계/리포트/안 읽은 알림/오늘 운동·식단 계획을 한 번에 조회 (실패한 항목은 null, failed 에 이름)
+  getDashboard: async (date) => {
+    const response = await api.get(DASHBOARD_BASE, {
+      params: date ? { date } : undefined,
+    })
+    return response.data
+  },
+}
+
+export default dashboardApi
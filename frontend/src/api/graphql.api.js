@@ -0,0 +1,45 @@
+import api from './axios'
+
+const GRAPHQL_BASE = '/api/v1/graphql'
+
+const QUESTION_FIELDS = `
+  questionId
+  userId
+  questionTitle
+  questionContent
+  isAnswered
+  answers {
+    answerId
+    userId
+    questionId
+    answerContent
+  }
+`
+
+// 게이트웨이 GraphQL 조회 API (여러 서비스 데이터를 요청 한 번으로 조회)
+export const graphqlApi = {
+  query: async (query, variables) => {
+    const response = await api.post(GRAPHQL_BASE, { query, variables })
+    if (response.data.errors?.length) {
+      throw new Error(response.data.errors[0].message)
+    }
+    return response.data.data
+  },
+
+  // 질문과 답변을 함께 조회
+  getQuestionWithAnswers: async (questionId) => {
+    const data = await graphqlApi.query(
+      `query ($questionId: ID!) { question(questionId: $questionId) { ${QUESTION_FIELDS} } }`,
+      { questionId }
+    )
+    return data.question
+  },
+
+  // 내 질문 목록과 각 질문의 답변을 함께 조회 (답변은 게이트웨이에서 한 번에 모아 가져온다)
+  getMyQuestionsWithAnswers: async () => {
+    const data = await graphqlApi.query(`query { myQuestions { ${QUESTION_FIELDS} } }`)
+    return data.myQuestions
+  },
+}
+
+export default graphqlApi
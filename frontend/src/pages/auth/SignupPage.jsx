@@ -2,6 +2,7 @@ import { useState } from 'react'
 import { Link, useNavigate } from 'react-router-dom'
 import styled from 'styled-components'
 import useAuthStore from '../../store/authStore'
+import { authApi } from '../../api/auth.api'
 import Button from '../../components/common/Button'
 import Input from '../../components/common/Input'
 
@@ -166,6 +167,20 @@ const SignupPage = () => {
     }
   }
 
+  // 아이디 입력을 마치면 사용 가능 여부를 미리 확인 (최종 판단은 가입 요청의 409)
+  const handleIdBlur = async () => {
+    const id = formData.id.trim()
+    if (id.length < 4) return
+    try {
+      const available = await authApi.checkUsername(id)
+      if (!available) {
+        setFormErrors(prev => ({ ...prev, id: '이미 사용 중인 아이디입니다.' }))
+      }
+    } catch (err) {
+      // 확인 실패는 무시하고 가입 시점에 판단
+    }
+  }
+
   const handleRoleSelect = (role) => {
     setFormData(prev => ({ ...prev, role }))
   }
@@ -205,6 +220,7 @@ const SignupPage = () => {
             placeholder="아이디를 입력하세요 (4자 이상)"
             value={formData.id}
             onChange={handleChange}
+            onBlur={handleIdBlur}
             error={formErrors.id}
           />
 
@@ -3,6 +3,7 @@ import styled from 'styled-components'
 import useAuthStore from '../../store/authStore'
 import { statsApi } from '../../api/stats.api'
 import { reportApi } from '../../api/report.api'
+import { dashboardApi } from '../../api/dashboard.api'
 import LoadingSpinner from '../../components/common/LoadingSpinner'
 import Button from '../../components/common/Button'
 
@@ -117,13 +118,12 @@ const DashboardPage = () => {
 
   const fetchData = async () => {
     try {
-      const [statsResponse, reportsData] = await Promise.all([
-        statsApi.getUserStats().catch(() => ({ data: [] })),
-        reportApi.getAllReports().catch(() => ({ data: [] })),
-      ])
-      
+      // 게이트웨이가 각 서비스를 동시에 호출해 합친 응답 (실패한 항목은 null)
+      const dashboard = await dashboardApi.getDashboard().catch(() => ({ data: {} }))
+      const { userStats, reports: reportsData } = dashboard?.data || {}
+
       // 통계 데이터 처리 - 배열 형태로 받아서 합계 계산
-      const statsData = statsResponse?.data || statsResponse || []
+      const statsData = userStats || []
       const statsArray = Array.isArray(statsData) ? statsData : [statsData]
       
       // 전체 합계 계산
@@ -131,7 +131,7 @@ const DashboardPage = () => {
       const totalCalories = statsArray.reduce((sum, stat) => sum + (stat?.totalCalories || 0), 0)
       
       setStats({ totalDuration, totalCalories, weekCount: statsArray.length })
-      setReports(reportsData?.data || [])
+      setReports(reportsData || [])
     } catch (error) {
       console.error('데이터 로딩 실패:', error)
     } finally {
@@ -2,6 +2,7 @@ import { useState, useEffect } from 'react'
 import { useParams, useNavigate } from 'react-router-dom'
 import styled from 'styled-components'
 import { qnaApi } from '../../api/qna.api'
+import { graphqlApi } from '../../api/graphql.api'
 import useAuthStore from '../../store/authStore'
 import Button from '../../components/common/Button'
 import Input from '../../components/common/Input'
@@ -159,22 +160,21 @@ const QuestionDetailPage = () => {
       console.log('fetchData 호출됨, questionId:', questionId, 'userRole:', userRole)
       setIsLoading(true)
       try {
-        // 트레이너인 경우 질문 상세 조회 API 사용, 일반 유저는 내 질문에서 찾기
-        if (userRole === 'TRAINER') {
-          console.log('트레이너 API 호출: getQuestionById')
-          const questionResponse = await qnaApi.getQuestionById(questionId)
-          console.log('트레이너 API 응답:', questionResponse)
-          setQuestion(questionResponse.data)
-        } else {
-          console.log('일반 유저 API 호출: getMyQuestions')
-          const questionsResponse = await qnaApi.getMyQuestions()
-          const foundQuestion = questionsResponse.data?.find(q => q.questionId === parseInt(questionId))
-          setQuestion(foundQuestion)
+        // 질문과 그 질문의 답변만 GraphQL 요청 한 번으로 조회
+        let foundQuestion = await graphqlApi.getQuestionWithAnswers(questionId)
+        // 일반 유저는 자기 질문만 볼 수 있다
+        if (foundQuestion && userRole !== 'TRAINER' && Number(foundQuestion.userId) !== Number(user?.userId)) {
+          foundQuestion = null
         }
 
-        // 답변 조회
-        const answersResponse = await qnaApi.getAnswersByQuestionId(questionId)
-        setAnswers(answersResponse.data || [])
+        if (foundQuestion) {
+          const { answers: questionAnswers, ...rest } = foundQuestion
+          setQuestion({ ...rest, questionId: Number(rest.questionId), userId: Number(rest.userId) })
+          setAnswers((questionAnswers || []).map(a => ({ ...a, answerId: Number(a.answerId), userId: Number(a.userId) })))
+        } else {
+          setQuestion(undefined)
+          setAnswers([])
+        }
       } catch (error) {
         console.error('데이터 로딩 실패:', error)
       } finally {
@@ -183,7 +183,7 @@ const QuestionDetailPage = () => {
     }
 
     fetchData()
-  }, [questionId, userRole])
+  }, [questionId, userRole, user?.userId])
 
   const handleDeleteQuestion = async () => {
     if (!window.confirm('정말로 삭제하시겠습니까?')) return
@@ -653,7 +653,7 @@ const StatsPage = () => {
                   <RankingItem key={item.userId} $rank={index + 1}>
                     <RankBadge $rank={index + 1}>{index + 1}</RankBadge>
                     <RankInfo>
-                      <RankName>사용자 {item.userId}</RankName>
+                      <RankName>{item.username || `사용자 ${item.userId}`}</RankName>
                       <RankMeta>#{index + 1} 랭커</RankMeta>
                     </RankInfo>
                     <RankValueBadge $type="time">
@@ -684,7 +684,7 @@ const StatsPage = () => {
                   <RankingItem key={item.userId} $rank={index + 1}>
                     <RankBadge $rank={index + 1}>{index + 1}</RankBadge>
                     <RankInfo>
-                      <RankName>사용자 {item.userId}</RankName>
+                      <RankName>{item.username || `사용자 ${item.userId}`}</RankName>
                       <RankMeta>#{index + 1} 랭커</RankMeta>
                     </RankInfo>
                     <RankValueBadge $type="calorie">